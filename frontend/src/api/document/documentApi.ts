@@ -95,6 +95,41 @@ export const downloadDocument = async (id: number): Promise<Blob | null> => {
   }
 };
 
+/**
+ * Result of a preview request: the image, a delay to retry after while it is rendered, or no preview
+ */
+export type DocumentPreviewResult =
+  | { status: 'ready'; blob: Blob }
+  | { status: 'pending'; retryAfterMs: number }
+  | { status: 'unavailable' };
+
+/**
+ * Get the preview image of a document
+ * @param id document ID
+ * @returns Promise<DocumentPreviewResult>; 202 responses are reported as pending with their Retry-After
+ */
+export const getDocumentPreview = async (id: number): Promise<DocumentPreviewResult> => {
+  try {
+    const response = await fetch(`${API_BASE_URL}/documents/${id}/preview`, {
+      method: 'GET',
+      credentials: 'include',
+    });
+
+    if (response.status === 202) {
+      const retryAfter = Number(response.headers.get('Retry-After'));
+      return { status: 'pending', retryAfterMs: (retryAfter > 0 ? retryAfter : 2) * 1000 };
+    }
+    if (!response.ok) {
+      return { status: 'unavailable' };
+    }
+
+    return { status: 'ready', blob: await response.blob() };
+  } catch (error) {
+    console.error(`Error fetching preview of document ${id}:`, error);
+    return { status: 'unavailable' };
+  }
+};
+
 /**
  * Get all documents (for admin purposes)
  * @returns Promise<DocumentListResponse | null>
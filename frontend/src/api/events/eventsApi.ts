@@ -0,0 +1,68 @@
+const API_BASE_URL = '/api';
+
+export type ChangeEventType = 'notice' | 'document' | 'task-deadline';
+
+type ChangeListener = (data: unknown) => void;
+
+const EVENT_TYPES: ChangeEventType[] = ['notice', 'document', 'task-deadline'];
+const listeners = new Map<ChangeEventType, Set<ChangeListener>>();
+let source: EventSource | null = null;
+let connectedOnce = false;
+
+const notify = (type: ChangeEventType, data: unknown) => {
+  listeners.get(type)?.forEach((listener) => listener(data));
+};
+
+const openSource = () => {
+  if (source) {
+    return;
+  }
+
+  source = new EventSource(`${API_BASE_URL}/events`, { withCredentials: true });
+
+  EVENT_TYPES.forEach((type) => {
+    source?.addEventListener(type, (event) => {
+      try {
+        notify(type, JSON.parse((event as MessageEvent).data));
+      } catch (error) {
+        console.error('Failed to parse change event:', error);
+      }
+    });
+  });
+
+  // Events may have been missed while disconnected, so let every listener refetch
+  source.onopen = () => {
+    if (connectedOnce) {
+      EVENT_TYPES.forEach((type) => notify(type, null));
+    }
+    connectedOnce = true;
+  };
+};
+
+const closeSourceIfUnused = () => {
+  const hasListeners = Array.from(listeners.values()).some((set) => set.size > 0);
+  if (!hasListeners && source) {
+    source.close();
+    source = null;
+    connectedOnce = false;
+  }
+};
+
+/**
+ * Subscribe to server-sent change events. All subscribers share one connection.
+ * @param type event type to listen for
+ * @param listener called with the event payload, or null after a reconnect
+ * @returns function that removes the subscription
+ */
+export const subscribeToChanges = (type: ChangeEventType, listener: ChangeListener): (() => void) => {
+  if (!listeners.has(type)) {
+    listeners.set(type, new Set());
+  }
+  listeners.get(type)?.add(listener);
+  openSource();
+
+  return () => {
+    listeners.get(type)?.delete(listener);
+    closeSourceIfUnused();
+  };
+};
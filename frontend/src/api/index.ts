@@ -2,3 +2,4 @@ export * from './types';
 export * from './user';
 export * from './notice';
 export * from './document';
+export * from './events';
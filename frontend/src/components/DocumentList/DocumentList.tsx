@@ -2,10 +2,26 @@ import React, { useState } from "react";
 import Card from "../Card";
 import Button from "../Button";
 import UploadDocumentModal from "../UploadDocumentModal";
-import { useDocuments, useDocumentDownload } from "../../hooks/useDocuments";
+import { useDocuments, useDocumentDownload, useDocumentPreview } from "../../hooks/useDocuments";
 import { useUploadDocument } from "../../hooks/useUploadDocument";
 import "./DocumentList.css";
 
+// Matches the types the server renders previews for
+const hasPreview = (fileType: string) =>
+  ['image/png', 'image/jpeg', 'image/gif', 'image/bmp', 'application/pdf'].includes(fileType.split(';')[0].trim().toLowerCase());
+
+/**
+ * Preview of a document, or the fallback while it is loading or when there is none
+ */
+const DocumentPreview: React.FC<{ id: number; fileType: string; fallback: React.ReactNode }> = ({ id, fileType, fallback }) => {
+  const { url, failed } = useDocumentPreview(id, hasPreview(fileType));
+
+  if (failed || !url) {
+    return <>{fallback}</>;
+  }
+  return <img className="document-preview" src={url} alt="" />;
+};
+
 const DocumentList: React.FC = () => {
   const [currentPage, setCurrentPage] = useState(0); // 0-based for API
   const [downloadingIds, setDownloadingIds] = useState<Set<number>>(new Set());
@@ -116,7 +132,11 @@ const DocumentList: React.FC = () => {
                 className="document-item"
                 onClick={() => handleDocumentClick(document)}
               >
-                <div className="document-icon">{getFileIcon(document.fileType)}</div>
+                <DocumentPreview
+                  id={document.id}
+                  fileType={document.fileType}
+                  fallback={<div className="document-icon">{getFileIcon(document.fileType)}</div>}
+                />
                 <div className="document-content">
                   <h4 className="document-title">{document.title}</h4>
                   <div className="document-meta">
@@ -1,6 +1,6 @@
 import { useState, useEffect } from 'react';
 import type { DocumentSummary, DocumentDetail } from '../api';
-import { getRecentDocuments, getDocumentById, downloadDocument } from '../api';
+import { getRecentDocuments, getDocumentById, downloadDocument, getDocumentPreview, subscribeToChanges } from '../api';
 
 /**
  * Custom hook for managing documents
@@ -14,6 +14,10 @@ export const useDocuments = (page: number = 0, size: number = 5) => {
   const [totalPages, setTotalPages] = useState(0);
   const [hasNext, setHasNext] = useState(false);
   const [hasPrevious, setHasPrevious] = useState(false);
+  const [version, setVersion] = useState(0);
+
+  // Refetch when the server pushes a change instead of polling
+  useEffect(() => subscribeToChanges('document', () => setVersion((v) => v + 1)), []);
 
   useEffect(() => {
     const fetchDocuments = async () => {
@@ -42,7 +46,7 @@ export const useDocuments = (page: number = 0, size: number = 5) => {
     };
 
     fetchDocuments();
-  }, [page, size]);
+  }, [page, size, version]);
 
   return {
     documents,
@@ -123,6 +127,60 @@ export const useDocument = (id: number | null) => {
   return { document, loading, error };
 };
 
+// Previews still pending after this many attempts fall back to the file icon
+const MAX_PREVIEW_ATTEMPTS = 5;
+
+/**
+ * Custom hook for loading a document preview, retrying after Retry-After while it is being rendered
+ * @param id document ID
+ * @param enabled whether the document type has previews at all
+ * @returns object URL of the preview, and whether there is none
+ */
+export const useDocumentPreview = (id: number, enabled: boolean) => {
+  const [url, setUrl] = useState<string | null>(null);
+  const [failed, setFailed] = useState(!enabled);
+
+  useEffect(() => {
+    if (!enabled) {
+      setFailed(true);
+      return;
+    }
+
+    let cancelled = false;
+    let timer: ReturnType<typeof setTimeout> | undefined;
+    let objectUrl: string | null = null;
+    setFailed(false);
+
+    const load = async (attempt: number) => {
+      const result = await getDocumentPreview(id);
+      if (cancelled) {
+        return;
+      }
+      if (result.status === 'ready') {
+        objectUrl = window.URL.createObjectURL(result.blob);
+        setUrl(objectUrl);
+      } else if (result.status === 'pending' && attempt < MAX_PREVIEW_ATTEMPTS) {
+        timer = setTimeout(() => load(attempt + 1), result.retryAfterMs);
+      } else {
+        setFailed(true);
+      }
+    };
+
+    load(1);
+
+    return () => {
+      cancelled = true;
+      clearTimeout(timer);
+      if (objectUrl) {
+        window.URL.revokeObjectURL(objectUrl);
+      }
+      setUrl(null);
+    };
+  }, [id, enabled]);
+
+  return { url, failed };
+};
+
 /**
  * Custom hook for downloading documents
  */
@@ -1,6 +1,6 @@
 import { useState, useEffect } from 'react';
 import type { NoticeSummary, NoticeDetail } from '../api';
-import { getRecentNotices, getNoticeById } from '../api';
+import { getRecentNotices, getNoticeById, subscribeToChanges } from '../api';
 
 /**
  * Custom hook for managing notices
@@ -14,6 +14,10 @@ export const useNotices = (page: number = 0, size: number = 5) => {
   const [totalPages, setTotalPages] = useState(0);
   const [hasNext, setHasNext] = useState(false);
   const [hasPrevious, setHasPrevious] = useState(false);
+  const [version, setVersion] = useState(0);
+
+  // Refetch when the server pushes a change instead of polling
+  useEffect(() => subscribeToChanges('notice', () => setVersion((v) => v + 1)), []);
 
   useEffect(() => {
     const fetchNotices = async () => {
@@ -42,7 +46,7 @@ export const useNotices = (page: number = 0, size: number = 5) => {
     };
 
     fetchNotices();
-  }, [page, size]);
+  }, [page, size, version]);
 
   return {
     notices,
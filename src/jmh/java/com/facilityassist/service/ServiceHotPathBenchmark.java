@@ -0,0 +1,182 @@
+package com.facilityassist.service;
+
+import com.facilityassist.FacilityAssistApplication;
+import com.facilityassist.dto.ApiResponse;
+import com.facilityassist.dto.DocumentListResponse;
+import com.facilityassist.dto.NoticeListResponse;
+import com.facilityassist.model.Document;
+import com.facilityassist.model.Notice;
+import com.facilityassist.model.User;
+import com.facilityassist.model.UserRole;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the notice and document read paths against an embedded H2 database seeded
+ * with 10k notices and 5k documents. Results are written to target/jmh-result.json.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceHotPathBenchmark {
+
+    private static final int NOTICE_COUNT = 10_000;
+    private static final int DOCUMENT_COUNT = 5_000;
+    private static final int BATCH_SIZE = 500;
+    private static final long[] FILE_SIZES = {0L, 512L, 48_213L, 3_145_728L, 7_516_192_768L};
+
+    private ConfigurableApplicationContext context;
+    private NoticeService noticeService;
+    private DocumentService documentService;
+    private TransactionTemplate readOnlyTransaction;
+    private ObjectMapper objectMapper;
+
+    private Notice sampleNotice;
+    private Document sampleDocument;
+    private ApiResponse<NoticeListResponse> sampleNoticeListResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(FacilityAssistApplication.class)
+            .properties(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=64",
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+            .run();
+
+        noticeService = context.getBean(NoticeService.class);
+        documentService = context.getBean(DocumentService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        seed(new JdbcTemplate(context.getBean("dataSource", DataSource.class)));
+        // The seed bypasses the services, so the cached totals still count only the startup data
+        context.getBean(StatisticsService.class).reconcile();
+
+        User author = User.builder()
+            .id(1L)
+            .username("admin")
+            .name("시스템 관리자")
+            .role(UserRole.ADMIN)
+            .build();
+        sampleNotice = Notice.builder()
+            .id(1L)
+            .title("2024년 1분기 시설물 점검 일정 안내")
+            .content("2024년 1분기 시설물 점검 일정을 안내드립니다.")
+            .writtenBy(author)
+            .build();
+        sampleDocument = Document.builder()
+            .id(1L)
+            .title("시설물 유지보수 매뉴얼 v2.1")
+            .description("시설물 유지보수 매뉴얼 최신판")
+            .fileName("manual-v2.1.pdf")
+            .fileType("application/pdf")
+            .fileSize(3_145_728L)
+            .uploadedBy(author)
+            .build();
+        sampleNoticeListResponse = ApiResponse.success(
+            readOnlyTransaction.execute(status -> noticeService.getRecentNotices(0, 20)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public NoticeListResponse getRecentNotices() {
+        return readOnlyTransaction.execute(status -> noticeService.getRecentNotices(0, 5));
+    }
+
+    @Benchmark
+    public DocumentListResponse getRecentDocuments() {
+        return readOnlyTransaction.execute(status -> documentService.getRecentDocuments(0, 5));
+    }
+
+    @Benchmark
+    public Object convertToNoticeSummary() {
+        return noticeService.convertToNoticeSummary(sampleNotice);
+    }
+
+    @Benchmark
+    public Object convertToDocumentSummary() {
+        return documentService.convertToDocumentSummary(sampleDocument);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(5)
+    public void formatFileSize(Blackhole blackhole) {
+        for (long size : FILE_SIZES) {
+            blackhole.consume(documentService.formatFileSize(size));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeNoticeListResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(sampleNoticeListResponse);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Long> userIds = jdbcTemplate.queryForList("SELECT id FROM USERS", Long.class);
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> notices = new ArrayList<>();
+        for (int i = 0; i < NOTICE_COUNT; i++) {
+            notices.add(new Object[]{
+                "시설물 점검 공지 " + i,
+                "점검 내용 안내 ".repeat(20 + random.nextInt(80)),
+                userIds.get(random.nextInt(userIds.size())),
+                Timestamp.valueOf(now.minusMinutes(i))
+            });
+            if (notices.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(
+                    "INSERT INTO NOTICES (title, content, written_by, created_at) VALUES (?, ?, ?, ?)", notices);
+                notices.clear();
+            }
+        }
+
+        List<Object[]> documents = new ArrayList<>();
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            byte[] content = new byte[1024 + random.nextInt(16 * 1024)];
+            random.nextBytes(content);
+            documents.add(new Object[]{
+                "시설물 문서 " + i,
+                "문서 설명 ".repeat(5 + random.nextInt(20)),
+                "document-" + i + ".pdf",
+                "application/pdf",
+                (long) content.length,
+                content,
+                userIds.get(random.nextInt(userIds.size())),
+                Timestamp.valueOf(now.minusMinutes(i))
+            });
+            if (documents.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(
+                    "INSERT INTO DOCUMENTS (title, description, file_name, file_type, file_size, file_content, " +
+                    "uploaded_by, uploaded_at, is_active) VALUES (?, ?, ?, ?, ?, ?, ?, ?, TRUE)", documents);
+                documents.clear();
+            }
+        }
+    }
+}
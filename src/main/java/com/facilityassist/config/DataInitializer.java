@@ -146,7 +146,7 @@ public class DataInitializer implements CommandLineRunner {
 
     private void initializeSampleNotices() {
         // Check if notices already exist
-        if (noticeRepository.count() > 0) {
+        if (noticeRepository.existsByIdIsNotNull()) {
             log.debug("Sample notices already exist, skipping...");
             return;
         }
@@ -0,0 +1,49 @@
+package com.facilityassist.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Connection pools.
+ *
+ * The primary pool serves JPA and every short metadata query. Document content is streamed
+ * through a separate, smaller pool so that slow downloads can only exhaust their own
+ * connections. Both pools are tuned under spring.datasource.hikari and
+ * facility.blob-datasource.hikari respectively.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("facility.blob-datasource.hikari")
+    public HikariDataSource blobDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public JdbcTemplate blobJdbcTemplate(@Qualifier("blobDataSource") DataSource blobDataSource) {
+        return new JdbcTemplate(blobDataSource);
+    }
+}
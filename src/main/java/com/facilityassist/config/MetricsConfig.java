@@ -0,0 +1,103 @@
+package com.facilityassist.config;
+
+import com.facilityassist.scheduler.TaskDeadlineScheduler;
+import com.facilityassist.security.LoginRateLimiter;
+import com.facilityassist.service.ChangeFeedService;
+import com.facilityassist.service.DocumentProcessingService;
+import com.facilityassist.service.PreviewCache;
+import com.facilityassist.service.StatisticsService;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics beyond what Actuator binds on its own: {@code @Timed} support for controllers and
+ * services, and gauges for the in-process schedulers and feeds.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public MeterBinder applicationMeters(TaskDeadlineScheduler taskDeadlineScheduler,
+                                         ChangeFeedService changeFeedService,
+                                         LoginRateLimiter loginRateLimiter,
+                                         StatisticsService statisticsService,
+                                         DocumentProcessingService documentProcessingService,
+                                         PreviewCache previewCache,
+                                         ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor) {
+        return registry -> {
+            Gauge.builder("facility.deadline.scheduled.tasks", taskDeadlineScheduler,
+                    TaskDeadlineScheduler::getScheduledTaskCount)
+                .description("Tasks with a pending deadline timer")
+                .register(registry);
+            Gauge.builder("facility.change.feed.subscribers", changeFeedService,
+                    ChangeFeedService::getSubscriberCount)
+                .description("Open server-sent event subscriptions")
+                .register(registry);
+            FunctionCounter.builder("facility.change.feed.dropped", changeFeedService,
+                    ChangeFeedService::getDroppedSubscriberCount)
+                .description("Subscribers disconnected for falling behind")
+                .register(registry);
+            Gauge.builder("facility.login.rate.limit.buckets", loginRateLimiter,
+                    LoginRateLimiter::getUsernameBucketCount)
+                .tag("scope", "username")
+                .description("Login rate limit buckets currently tracked")
+                .register(registry);
+            Gauge.builder("facility.login.rate.limit.buckets", loginRateLimiter,
+                    LoginRateLimiter::getIpBucketCount)
+                .tag("scope", "ip")
+                .description("Login rate limit buckets currently tracked")
+                .register(registry);
+            FunctionCounter.builder("facility.login.rate.limit.rejected", loginRateLimiter,
+                    LoginRateLimiter::getUsernameRejectionCount)
+                .tag("scope", "username")
+                .description("Login attempts rejected with 429")
+                .register(registry);
+            FunctionCounter.builder("facility.login.rate.limit.rejected", loginRateLimiter,
+                    LoginRateLimiter::getIpRejectionCount)
+                .tag("scope", "ip")
+                .description("Login attempts rejected with 429")
+                .register(registry);
+            Gauge.builder("facility.notices", statisticsService, StatisticsService::getNoticeCount)
+                .description("Notices, from the maintained counters")
+                .register(registry);
+            Gauge.builder("facility.documents.active", statisticsService, StatisticsService::getActiveDocumentCount)
+                .description("Active documents, from the maintained counters")
+                .register(registry);
+            Gauge.builder("facility.documents.stored.bytes", statisticsService, StatisticsService::getStoredBytes)
+                .description("Total size of active documents")
+                .baseUnit("bytes")
+                .register(registry);
+            Gauge.builder("facility.document.processing.queued", documentProcessingService,
+                    DocumentProcessingService::getQueuedJobCount)
+                .description("Processing jobs waiting for a worker")
+                .register(registry);
+            Gauge.builder("facility.document.processing.active", documentProcessingService,
+                    DocumentProcessingService::getActiveWorkerCount)
+                .description("Processing workers currently running a job")
+                .register(registry);
+            Gauge.builder("facility.preview.cache.size", previewCache, PreviewCache::getSizeBytes)
+                .description("Disk space used by cached previews")
+                .baseUnit("bytes")
+                .register(registry);
+            Gauge.builder("facility.preview.cache.entries", previewCache, PreviewCache::getEntryCount)
+                .description("Cached previews")
+                .register(registry);
+            pinningMonitor.ifAvailable(monitor ->
+                FunctionCounter.builder("facility.virtual.threads.pinned", monitor,
+                        VirtualThreadPinningMonitor::getPinnedEventCount)
+                    .description("Virtual thread pinning events above the threshold")
+                    .register(registry));
+        };
+    }
+}
@@ -0,0 +1,202 @@
+package com.facilityassist.config;
+
+import com.facilityassist.model.UserRole;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Loads a configurable volume of synthetic units, managers, notices, documents, tasks and
+ * assignments through batched JDBC inserts, for load tests and benchmarks.
+ *
+ * Enabled with facility.synthetic-data.enabled=true. Generated managers are named
+ * gen_{unit}_manager_{n} and share the password configured in facility.synthetic-data.password.
+ * The same seed always produces the same data.
+ */
+@Component
+@ConditionalOnProperty(name = "facility.synthetic-data.enabled", havingValue = "true")
+@Slf4j
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${facility.synthetic-data.units:200}")
+    private int units;
+
+    @Value("${facility.synthetic-data.managers-per-unit:2}")
+    private int managersPerUnit;
+
+    @Value("${facility.synthetic-data.notices:10000}")
+    private int notices;
+
+    @Value("${facility.synthetic-data.documents:2000}")
+    private int documents;
+
+    @Value("${facility.synthetic-data.document-size.median-bytes:65536}")
+    private long documentMedianBytes;
+
+    @Value("${facility.synthetic-data.document-size.sigma:1.5}")
+    private double documentSizeSigma;
+
+    @Value("${facility.synthetic-data.document-size.max-bytes:5242880}")
+    private long documentMaxBytes;
+
+    @Value("${facility.synthetic-data.tasks:5000}")
+    private int tasks;
+
+    @Value("${facility.synthetic-data.assignments-per-task:3}")
+    private int assignmentsPerTask;
+
+    @Value("${facility.synthetic-data.password:password123}")
+    private String password;
+
+    @Value("${facility.synthetic-data.batch-size:500}")
+    private int batchSize;
+
+    @Value("${facility.synthetic-data.seed:42}")
+    private long seed;
+
+    public SyntheticDataGenerator(@Qualifier("dataSource") DataSource dataSource, PasswordEncoder passwordEncoder) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    @Override
+    public void run(String... args) {
+        long start = System.currentTimeMillis();
+        Random random = new Random(seed);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> unitIds = generateUnits(now);
+        List<Long> managerIds = generateManagers(unitIds, now);
+        generateNotices(managerIds, random, now);
+        generateDocuments(managerIds, random, now);
+        generateTasks(unitIds, random, now);
+
+        log.info("Generated synthetic data in {} ms: {} units, {} managers, {} notices, {} documents, {} tasks",
+            System.currentTimeMillis() - start, unitIds.size(), managerIds.size(), notices, documents, tasks);
+    }
+
+    private List<Long> generateUnits(LocalDateTime now) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < units; i++) {
+            rows.add(new Object[]{"합성 부대 " + i, "GEN" + i, Timestamp.valueOf(now)});
+        }
+        insert("INSERT INTO UNIT (name, code, created_at) VALUES (?, ?, ?)", rows);
+        return jdbcTemplate.queryForList("SELECT id FROM UNIT WHERE code LIKE 'GEN%' ORDER BY id", Long.class);
+    }
+
+    private List<Long> generateManagers(List<Long> unitIds, LocalDateTime now) {
+        String passwordHash = passwordEncoder.encode(password);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < unitIds.size(); i++) {
+            for (int j = 0; j < managersPerUnit; j++) {
+                rows.add(new Object[]{
+                    "gen_" + i + "_manager_" + j,
+                    "합성 부대 " + i + " 관리자 " + j,
+                    passwordHash,
+                    UserRole.MANAGER.name(),
+                    unitIds.get(i),
+                    Timestamp.valueOf(now)
+                });
+            }
+        }
+        insert("INSERT INTO USERS (username, name, password_hash, role, unit_id, created_at) VALUES (?, ?, ?, ?, ?, ?)", rows);
+        return jdbcTemplate.queryForList("SELECT id FROM USERS WHERE username LIKE 'gen\\_%' ORDER BY id", Long.class);
+    }
+
+    private void generateNotices(List<Long> authorIds, Random random, LocalDateTime now) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < notices; i++) {
+            rows.add(new Object[]{
+                "합성 공지사항 " + i,
+                "시설물 점검 및 유지보수 안내입니다. ".repeat(5 + random.nextInt(60)),
+                authorIds.get(random.nextInt(authorIds.size())),
+                Timestamp.valueOf(now.minusMinutes(notices - i))
+            });
+            if (rows.size() == batchSize) {
+                insert("INSERT INTO NOTICES (title, content, written_by, created_at) VALUES (?, ?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+        insert("INSERT INTO NOTICES (title, content, written_by, created_at) VALUES (?, ?, ?, ?)", rows);
+    }
+
+    private void generateDocuments(List<Long> uploaderIds, Random random, LocalDateTime now) {
+        String sql = "INSERT INTO DOCUMENTS (title, description, file_name, file_type, file_size, file_content, " +
+            "uploaded_by, uploaded_at, is_active) VALUES (?, ?, ?, ?, ?, ?, ?, ?, TRUE)";
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < documents; i++) {
+            byte[] content = new byte[(int) nextDocumentSize(random)];
+            random.nextBytes(content);
+            rows.add(new Object[]{
+                "합성 문서 " + i,
+                "합성 문서 설명 ".repeat(1 + random.nextInt(20)),
+                "synthetic-" + i + ".bin",
+                "application/octet-stream",
+                (long) content.length,
+                content,
+                uploaderIds.get(random.nextInt(uploaderIds.size())),
+                Timestamp.valueOf(now.minusMinutes(documents - i))
+            });
+            // Keep batches of large documents small in memory
+            if (rows.size() == Math.min(batchSize, 50)) {
+                insert(sql, rows);
+                rows.clear();
+            }
+        }
+        insert(sql, rows);
+    }
+
+    private void generateTasks(List<Long> unitIds, Random random, LocalDateTime now) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            LocalDateTime startDate = now.minusDays(random.nextInt(60));
+            rows.add(new Object[]{
+                Timestamp.valueOf(startDate),
+                Timestamp.valueOf(startDate.plusDays(1 + random.nextInt(120))),
+                "[GEN] 합성 시설 작업 " + i,
+                Timestamp.valueOf(now)
+            });
+        }
+        insert("INSERT INTO FACILITY_TASK (start_date, end_date, info, created_at) VALUES (?, ?, ?, ?)", rows);
+
+        List<Long> taskIds = jdbcTemplate.queryForList(
+            "SELECT id FROM FACILITY_TASK WHERE info LIKE '[GEN]%' ORDER BY id", Long.class);
+        List<Object[]> assignments = new ArrayList<>();
+        for (Long taskId : taskIds) {
+            int first = random.nextInt(unitIds.size());
+            for (int j = 0; j < Math.min(assignmentsPerTask, unitIds.size()); j++) {
+                assignments.add(new Object[]{taskId, unitIds.get((first + j) % unitIds.size()), Timestamp.valueOf(now)});
+            }
+        }
+        insert("INSERT INTO ASSIGNMENT (facility_task_id, unit_id, assigned_at) VALUES (?, ?, ?)", assignments);
+    }
+
+    /**
+     * Log-normal document size around the configured median, clamped to [1 byte, max-bytes]
+     */
+    private long nextDocumentSize(Random random) {
+        double size = documentMedianBytes * Math.exp(documentSizeSigma * random.nextGaussian());
+        return Math.max(1, Math.min(documentMaxBytes, Math.round(size)));
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + batchSize)));
+        }
+    }
+}
@@ -3,33 +3,57 @@ package com.facilityassist.controller;
 import com.facilityassist.dto.ApiResponse;
 import com.facilityassist.dto.LoginRequest;
 import com.facilityassist.dto.LoginResponse;
+import com.facilityassist.security.LoginRateLimiter;
+import com.facilityassist.security.TokenAuthenticationFilter;
+import com.facilityassist.security.TokenService;
 import com.facilityassist.security.UserPrincipal;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+
 @RestController
+@Timed(value = "facility.controller", histogram = true)
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 @Slf4j
 public class AuthController {
 
     private final AuthenticationManager authenticationManager;
+    private final TokenService tokenService;
+    private final LoginRateLimiter loginRateLimiter;
+
+    @Value("${facility.auth.token.cookie-secure:false}")
+    private boolean cookieSecure;
 
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest loginRequest,
+                                                           HttpServletRequest request) {
         try {
             log.info("Login attempt for username: {}", loginRequest.getUsername());
             
+            // Throttled before the user lookup and BCrypt check
+            long retryAfterMs = loginRateLimiter.tryAcquire(loginRequest.getUsername(), request.getRemoteAddr());
+            if (retryAfterMs > 0) {
+                log.warn("Login rate limited for username: {} from {}", loginRequest.getUsername(), request.getRemoteAddr());
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf((retryAfterMs + 999) / 1000))
+                    .body(ApiResponse.error("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."));
+            }
+            
             Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                     loginRequest.getUsername(),
@@ -37,8 +61,8 @@ public class AuthController {
                 )
             );
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
             UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+            String token = tokenService.issue(userPrincipal);
 
             LoginResponse loginResponse = LoginResponse.builder()
                 .id(userPrincipal.getId())
@@ -47,12 +71,14 @@ public class AuthController {
                 .role(userPrincipal.getRole())
                 .unitId(userPrincipal.getUnitId())
                 .unitName(userPrincipal.getUnitName())
-                .token("authenticated") // Simple token for now
+                .token(token)
                 .message("로그인 성공")
                 .build();
 
             log.info("Login successful for user: {} ({})", userPrincipal.getName(), userPrincipal.getUsername());
-            return ResponseEntity.ok(ApiResponse.success("로그인 성공", loginResponse));
+            return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, tokenCookie(token, tokenService.getTtl()).toString())
+                .body(ApiResponse.success("로그인 성공", loginResponse));
 
         } catch (Exception e) {
             log.warn("Login failed for username: {} - {}", loginRequest.getUsername(), e.getMessage());
@@ -61,15 +87,20 @@ public class AuthController {
         }
     }
 
+    /**
+     * Log out by expiring the token cookie. Tokens are stateless, so a copy held elsewhere
+     * stays valid until it expires.
+     */
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<String>> logout(HttpServletRequest request, HttpServletResponse response) {
+    public ResponseEntity<ApiResponse<String>> logout() {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
             if (authentication != null) {
-                new SecurityContextLogoutHandler().logout(request, response, authentication);
                 log.info("User logged out: {}", authentication.getName());
             }
-            return ResponseEntity.ok(ApiResponse.success("로그아웃 성공", null));
+            return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, tokenCookie("", Duration.ZERO).toString())
+                .body(ApiResponse.success("로그아웃 성공", null));
         } catch (Exception e) {
             log.error("Logout error: {}", e.getMessage());
             return ResponseEntity.badRequest()
@@ -103,4 +134,14 @@ public class AuthController {
                 .body(ApiResponse.error("사용자 정보를 가져올 수 없습니다."));
         }
     }
+
+    private ResponseCookie tokenCookie(String value, Duration maxAge) {
+        return ResponseCookie.from(TokenAuthenticationFilter.COOKIE_NAME, value)
+            .httpOnly(true)
+            .secure(cookieSecure)
+            .sameSite("Lax")
+            .path("/")
+            .maxAge(maxAge)
+            .build();
+    }
 }
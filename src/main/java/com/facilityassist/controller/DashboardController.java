@@ -0,0 +1,59 @@
+package com.facilityassist.controller;
+
+import com.facilityassist.dto.ApiResponse;
+import com.facilityassist.dto.DashboardResponse;
+import com.facilityassist.service.DashboardService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for the combined dashboard endpoint
+ */
+@RestController
+@Timed(value = "facility.controller", histogram = true)
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * Get the current user, recent notices and recent documents in one call
+     * @param size number of recent notices and documents (defaults to 5)
+     * @return ResponseEntity containing the dashboard, possibly with unavailable sections
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<DashboardResponse>> getDashboard(@RequestParam(defaultValue = "5") int size) {
+        try {
+            log.info("Getting dashboard - size: {}", size);
+            
+            DashboardResponse dashboard = dashboardService.getDashboard(size);
+            
+            return ResponseEntity.ok(
+                ApiResponse.<DashboardResponse>builder()
+                    .success(true)
+                    .message(dashboard.getUnavailableSections().isEmpty()
+                        ? "대시보드를 성공적으로 조회했습니다."
+                        : "일부 대시보드 정보를 불러오지 못했습니다.")
+                    .data(dashboard)
+                    .build()
+            );
+            
+        } catch (Exception e) {
+            log.error("Error getting dashboard", e);
+            return ResponseEntity.internalServerError().body(
+                ApiResponse.<DashboardResponse>builder()
+                    .success(false)
+                    .message("대시보드 조회 중 오류가 발생했습니다.")
+                    .build()
+            );
+        }
+    }
+}
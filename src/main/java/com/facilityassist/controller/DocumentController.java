@@ -1,31 +1,65 @@
 package com.facilityassist.controller;
 
 import com.facilityassist.dto.ApiResponse;
+import com.facilityassist.dto.ArchiveDocumentsRequest;
 import com.facilityassist.dto.DocumentListResponse;
 import com.facilityassist.dto.DocumentResponse;
-import com.facilityassist.dto.UploadDocumentRequest;
+import com.facilityassist.repository.DocumentContentRepository;
+import com.facilityassist.service.DocumentArchiveService;
 import com.facilityassist.service.DocumentService;
+import com.facilityassist.service.DocumentTooLargeException;
+import com.facilityassist.service.DocumentUploadService;
+import com.facilityassist.service.PreviewService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import java.io.EOFException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Controller for document-related API endpoints
  */
 @RestController
+@Timed(value = "facility.controller", histogram = true)
 @RequestMapping("/api/documents")
 @RequiredArgsConstructor
 @Slf4j
 public class DocumentController {
     
     private final DocumentService documentService;
+    private final DocumentContentRepository documentContentRepository;
+    private final DocumentArchiveService documentArchiveService;
+    private final DocumentUploadService documentUploadService;
+    private final PreviewService previewService;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    
+    private static final DateTimeFormatter ARCHIVE_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    
+    @Value("${facility.documents.archive.max-documents:500}")
+    private int archiveMaxDocuments;
+    
+    @Value("${facility.ndjson.flush-every:100}")
+    private int ndjsonFlushEvery;
     
     /**
      * Get recent documents with pagination
@@ -97,12 +131,13 @@ public class DocumentController {
     }
     
     /**
-     * Download document by ID
+     * Download document by ID. The content is streamed from the blob connection pool
+     * after the metadata lookup, so it is never held in memory as a whole.
      * @param id document ID
-     * @return ResponseEntity with file content for download
+     * @return ResponseEntity streaming the file content for download
      */
     @GetMapping("/{id}/download")
-    public ResponseEntity<byte[]> downloadDocument(@PathVariable Long id) {
+    public ResponseEntity<StreamingResponseBody> downloadDocument(@PathVariable Long id) {
         try {
             log.info("Downloading document by ID: {}", id);
             
@@ -120,7 +155,15 @@ public class DocumentController {
                 headers.setContentDispositionFormData("attachment", doc.getFileName());
                 headers.setContentLength(doc.getFileSize());
                 
-                return new ResponseEntity<>(doc.getFileContent(), headers, HttpStatus.OK);
+                StreamingResponseBody body = out -> {
+                    if (!documentContentRepository.copyContent(id, out)) {
+                        // Deactivated after the lookup; the 200 and its length are already sent, so
+                        // fail the write to abort the connection rather than end with an empty body
+                        throw new EOFException("Document " + id + " disappeared before its content was sent");
+                    }
+                    meterRegistry.counter("facility.documents.download.bytes").increment(doc.getFileSize());
+                };
+                return new ResponseEntity<>(body, headers, HttpStatus.OK);
             } else {
                 return ResponseEntity.notFound().build();
             }
@@ -131,15 +174,96 @@ public class DocumentController {
         }
     }
     
+    /**
+     * Get the JPEG preview of an image or PDF document. Previews are rendered in the background,
+     * so 202 with Retry-After is returned until the preview is ready. A document's content never
+     * changes, so a ready preview may be cached by the browser for a year.
+     * @param id document ID
+     * @return ResponseEntity with the preview, 202 while it is rendered, or 404 if there is none
+     */
+    @GetMapping("/{id}/preview")
+    public ResponseEntity<byte[]> getPreview(@PathVariable Long id, WebRequest webRequest) {
+        try {
+            PreviewService.Preview preview = previewService.getPreview(id);
+            
+            switch (preview.state()) {
+                case READY:
+                    if (webRequest.checkNotModified(preview.eTag())) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(preview.eTag()).build();
+                    }
+                    return ResponseEntity.ok()
+                        .contentType(MediaType.parseMediaType(PreviewService.MEDIA_TYPE))
+                        .eTag(preview.eTag())
+                        .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable())
+                        .body(preview.content());
+                case PENDING:
+                    return ResponseEntity.status(HttpStatus.ACCEPTED)
+                        .header(HttpHeaders.RETRY_AFTER, "2")
+                        .cacheControl(CacheControl.noStore())
+                        .build();
+                default:
+                    return ResponseEntity.notFound().build();
+            }
+            
+        } catch (Exception e) {
+            log.error("Error getting preview of document {}", id, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    /**
+     * Download several documents as one ZIP archive. Entries are streamed one document at a
+     * time as they are read, so the archive is never held in memory.
+     * @param request ArchiveDocumentsRequest containing the document IDs
+     * @return ResponseEntity streaming the ZIP archive
+     */
+    @PostMapping("/archive")
+    public ResponseEntity<StreamingResponseBody> downloadArchive(@Valid @RequestBody ArchiveDocumentsRequest request) {
+        try {
+            log.info("Downloading archive of {} documents", request.getDocumentIds().size());
+            
+            if (request.getDocumentIds().size() > archiveMaxDocuments) {
+                return ResponseEntity.badRequest().build();
+            }
+            
+            List<DocumentResponse.DocumentDownload> documents = documentService.getDocumentsForArchive(request.getDocumentIds());
+            if (documents.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.parseMediaType("application/zip"));
+            headers.setContentDisposition(ContentDisposition.attachment()
+                .filename("documents-" + LocalDateTime.now().format(ARCHIVE_NAME_FORMAT) + ".zip")
+                .build());
+            
+            StreamingResponseBody body = out -> {
+                long bytes = documentArchiveService.writeArchive(documents, out);
+                meterRegistry.counter("facility.documents.download.bytes").increment(bytes);
+            };
+            return new ResponseEntity<>(body, headers, HttpStatus.OK);
+            
+        } catch (Exception e) {
+            log.error("Error downloading document archive", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
     /**
      * Get all documents (for admin purposes)
      * @return ResponseEntity containing all documents
      */
     @GetMapping("/all")
-    public ResponseEntity<ApiResponse<DocumentListResponse>> getAllDocuments() {
+    public ResponseEntity<ApiResponse<DocumentListResponse>> getAllDocuments(WebRequest webRequest) {
         try {
             log.info("Getting all documents");
             
+            // Answer revalidations from the version stamp before loading any entity
+            String eTag = documentService.getAllDocumentsETag();
+            if (webRequest.checkNotModified(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            
             // Get all documents and convert to list response format
             var allDocuments = documentService.getAllDocuments();
             DocumentListResponse response = DocumentListResponse.builder()
@@ -151,13 +275,17 @@ public class DocumentController {
                 .hasPrevious(false)
                 .build();
             
-            return ResponseEntity.ok(
-                ApiResponse.<DocumentListResponse>builder()
-                    .success(true)
-                    .message("전체 문서를 성공적으로 조회했습니다.")
-                    .data(response)
-                    .build()
-            );
+            return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT) // JSON and NDJSON share the list version
+                .body(
+                    ApiResponse.<DocumentListResponse>builder()
+                        .success(true)
+                        .message("전체 문서를 성공적으로 조회했습니다.")
+                        .data(response)
+                        .build()
+                );
             
         } catch (Exception e) {
             log.error("Error getting all documents", e);
@@ -171,28 +299,104 @@ public class DocumentController {
     }
     
     /**
-     * Upload a new document
-     * @param title document title
-     * @param description document description
-     * @param file uploaded file
+     * Stream all documents as newline-delimited JSON, one summary per line, as they are read
+     * from the database. Selected with Accept: application/x-ndjson; the response is flushed
+     * every few records so clients can render progressively.
+     * @return ResponseEntity streaming the documents
+     */
+    @GetMapping(value = "/all", produces = NdjsonWriter.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamAllDocuments(WebRequest webRequest) {
+        try {
+            log.info("Streaming all documents");
+            
+            String eTag = documentService.getAllDocumentsETag();
+            if (webRequest.checkNotModified(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            
+            StreamingResponseBody body = out -> {
+                try (NdjsonWriter writer = new NdjsonWriter(objectMapper, out, ndjsonFlushEvery)) {
+                    documentService.streamAllDocuments(writer::write);
+                }
+            };
+            return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT) // JSON and NDJSON share the list version
+                .contentType(MediaType.parseMediaType(NdjsonWriter.MEDIA_TYPE))
+                .body(body);
+            
+        } catch (Exception e) {
+            log.error("Error streaming all documents", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    /**
+     * Upload a new document. The multipart body (fields title, description and file) is
+     * parsed as it arrives and the file is streamed straight into the document store.
+     * @param request multipart/form-data request
      * @return ResponseEntity containing the uploaded document
      */
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<ApiResponse<DocumentResponse>> uploadDocument(
-            @RequestParam("title") String title,
-            @RequestParam(value = "description", required = false) String description,
-            @RequestParam("file") MultipartFile file) {
+    public ResponseEntity<ApiResponse<DocumentResponse>> uploadDocument(HttpServletRequest request) {
+        log.info("Uploading new document ({} bytes)", request.getContentLengthLong());
+        return upload(request, null);
+    }
+    
+    /**
+     * Upload a new version of a document. Same fields as a new upload, but title and description
+     * may be left out to keep those of the previous version.
+     * @param id ID of any version of the document
+     * @param request multipart/form-data request
+     * @return ResponseEntity containing the uploaded version
+     */
+    @PostMapping(value = "/{id}/versions", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<DocumentResponse>> uploadDocumentVersion(@PathVariable Long id,
+                                                                               HttpServletRequest request) {
+        log.info("Uploading new version of document {} ({} bytes)", id, request.getContentLengthLong());
+        return upload(request, id);
+    }
+    
+    /**
+     * Get the version history of a document
+     * @param id ID of any version of the document
+     * @return ResponseEntity containing the versions, newest first
+     */
+    @GetMapping("/{id}/versions")
+    public ResponseEntity<ApiResponse<List<DocumentResponse.DocumentVersion>>> getDocumentVersions(@PathVariable Long id) {
         try {
-            log.info("Uploading new document with title: {}", title);
+            log.info("Getting versions of document {}", id);
             
-            // Create request object
-            UploadDocumentRequest request = UploadDocumentRequest.builder()
-                .title(title)
-                .description(description)
-                .file(file)
-                .build();
+            Optional<List<DocumentResponse.DocumentVersion>> versions = documentService.getVersions(id);
+            
+            if (versions.isPresent()) {
+                return ResponseEntity.ok(
+                    ApiResponse.<List<DocumentResponse.DocumentVersion>>builder()
+                        .success(true)
+                        .message("문서 버전을 성공적으로 조회했습니다.")
+                        .data(versions.get())
+                        .build()
+                );
+            } else {
+                return ResponseEntity.notFound().build();
+            }
             
-            DocumentResponse uploadedDocument = documentService.uploadDocument(request);
+        } catch (Exception e) {
+            log.error("Error getting versions of document {}", id, e);
+            return ResponseEntity.internalServerError().body(
+                ApiResponse.<List<DocumentResponse.DocumentVersion>>builder()
+                    .success(false)
+                    .message("문서 버전 조회 중 오류가 발생했습니다.")
+                    .build()
+            );
+        }
+    }
+    
+    private ResponseEntity<ApiResponse<DocumentResponse>> upload(HttpServletRequest request, Long parentId) {
+        try {
+            DocumentResponse uploadedDocument = documentUploadService.upload(request, parentId);
+            meterRegistry.counter("facility.documents.upload.bytes").increment(uploadedDocument.getFileSize());
             
             return ResponseEntity.ok(
                 ApiResponse.<DocumentResponse>builder()
@@ -202,6 +406,28 @@ public class DocumentController {
                     .build()
             );
             
+        } catch (DocumentTooLargeException e) {
+            log.warn("Rejected oversize upload: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(
+                ApiResponse.<DocumentResponse>builder()
+                    .success(false)
+                    .message(e.getMessage())
+                    .build()
+            );
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                ApiResponse.<DocumentResponse>builder()
+                    .success(false)
+                    .message(e.getMessage())
+                    .build()
+            );
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                ApiResponse.<DocumentResponse>builder()
+                    .success(false)
+                    .message(e.getMessage())
+                    .build()
+            );
         } catch (Exception e) {
             log.error("Error uploading document", e);
             return ResponseEntity.internalServerError().body(
@@ -213,4 +439,3 @@ public class DocumentController {
         }
     }
 }
-
@@ -0,0 +1,65 @@
+package com.facilityassist.controller;
+
+import com.facilityassist.service.ExportService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Controller for admin bulk exports
+ */
+@RestController
+@Timed(value = "facility.controller", histogram = true)
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+@Slf4j
+public class ExportController {
+
+    private final ExportService exportService;
+
+    /**
+     * Export a data set as a file. Rows are streamed from a database cursor into the file,
+     * so the export runs in constant memory.
+     * @param dataset notices, documents or assignments
+     * @param format csv or xlsx (defaults to csv)
+     * @return ResponseEntity streaming the exported file
+     */
+    @GetMapping("/{dataset}")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String dataset,
+            @RequestParam(defaultValue = "csv") String format) {
+        log.info("Exporting {} as {}", dataset, format);
+        
+        Optional<ExportService.Dataset> exportDataset = ExportService.Dataset.fromName(dataset);
+        if (exportDataset.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        Optional<ExportService.Format> exportFormat = ExportService.Format.fromName(format);
+        if (exportFormat.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(exportFormat.get().getContentType()));
+        headers.setContentDisposition(ContentDisposition.attachment()
+            .filename(exportDataset.get().getName() + "-" + LocalDate.now() + "." + exportFormat.get().getExtension())
+            .build());
+        
+        StreamingResponseBody body = out -> exportService.export(exportDataset.get(), exportFormat.get(), out);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,95 @@
+package com.facilityassist.controller;
+
+import com.facilityassist.dto.ApiResponse;
+import com.facilityassist.dto.FacilityTaskRequest;
+import com.facilityassist.dto.FacilityTaskResponse;
+import com.facilityassist.service.FacilityTaskService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import java.util.Optional;
+
+/**
+ * Controller for facility task API endpoints
+ */
+@RestController
+@Timed(value = "facility.controller", histogram = true)
+@RequestMapping("/api/tasks")
+@RequiredArgsConstructor
+@Slf4j
+public class FacilityTaskController {
+
+    private final FacilityTaskService facilityTaskService;
+
+    /**
+     * Create a new facility task
+     * @param request FacilityTaskRequest containing dates, info and unit IDs
+     * @return ResponseEntity containing the created task
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<FacilityTaskResponse>> createTask(@Valid @RequestBody FacilityTaskRequest request) {
+        try {
+            log.info("Creating new facility task");
+
+            FacilityTaskResponse createdTask = facilityTaskService.createTask(request);
+
+            return ResponseEntity.ok(
+                ApiResponse.<FacilityTaskResponse>builder()
+                    .success(true)
+                    .message("작업이 성공적으로 생성되었습니다.")
+                    .data(createdTask)
+                    .build()
+            );
+
+        } catch (Exception e) {
+            log.error("Error creating facility task", e);
+            return ResponseEntity.internalServerError().body(
+                ApiResponse.<FacilityTaskResponse>builder()
+                    .success(false)
+                    .message("작업 생성 중 오류가 발생했습니다: " + e.getMessage())
+                    .build()
+            );
+        }
+    }
+
+    /**
+     * Update the dates and info of a facility task
+     * @param id facility task ID
+     * @param request FacilityTaskRequest containing the new dates and info
+     * @return ResponseEntity containing the updated task
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<ApiResponse<FacilityTaskResponse>> updateTask(@PathVariable Long id,
+                                                                        @Valid @RequestBody FacilityTaskRequest request) {
+        try {
+            log.info("Updating facility task with ID: {}", id);
+
+            Optional<FacilityTaskResponse> updatedTask = facilityTaskService.updateTask(id, request);
+
+            if (updatedTask.isPresent()) {
+                return ResponseEntity.ok(
+                    ApiResponse.<FacilityTaskResponse>builder()
+                        .success(true)
+                        .message("작업이 성공적으로 수정되었습니다.")
+                        .data(updatedTask.get())
+                        .build()
+                );
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+
+        } catch (Exception e) {
+            log.error("Error updating facility task: {}", id, e);
+            return ResponseEntity.internalServerError().body(
+                ApiResponse.<FacilityTaskResponse>builder()
+                    .success(false)
+                    .message("작업 수정 중 오류가 발생했습니다: " + e.getMessage())
+                    .build()
+            );
+        }
+    }
+}
@@ -3,12 +3,23 @@ package com.facilityassist.controller;
 import com.facilityassist.dto.ApiResponse;
 import com.facilityassist.dto.CreateNoticeRequest;
 import com.facilityassist.dto.NoticeListResponse;
+import com.facilityassist.dto.NoticeReadStatsResponse;
 import com.facilityassist.dto.NoticeResponse;
+import com.facilityassist.service.NoticeReadService;
 import com.facilityassist.service.NoticeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.util.Optional;
@@ -17,12 +28,18 @@ import java.util.Optional;
  * Controller for notice-related API endpoints
  */
 @RestController
+@Timed(value = "facility.controller", histogram = true)
 @RequestMapping("/api/notices")
 @RequiredArgsConstructor
 @Slf4j
 public class NoticeController {
     
     private final NoticeService noticeService;
+    private final NoticeReadService noticeReadService;
+    private final ObjectMapper objectMapper;
+    
+    @Value("${facility.ndjson.flush-every:100}")
+    private int ndjsonFlushEvery;
     
     /**
      * Get recent notices with pagination
@@ -71,6 +88,7 @@ public class NoticeController {
             Optional<NoticeResponse> notice = noticeService.getNoticeById(id);
             
             if (notice.isPresent()) {
+                noticeReadService.recordRead(id);
                 return ResponseEntity.ok(
                     ApiResponse.<NoticeResponse>builder()
                         .success(true)
@@ -93,15 +111,67 @@ public class NoticeController {
         }
     }
     
+    /**
+     * Get the number of notices the current user has not read
+     * @return ResponseEntity containing the unread notice count
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResponse<Integer>> getUnreadCount() {
+        try {
+            Optional<Integer> unreadCount = noticeReadService.getUnreadCountForCurrentUser();
+            
+            if (unreadCount.isPresent()) {
+                return ResponseEntity.ok(ApiResponse.success(unreadCount.get()));
+            } else {
+                return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("인증되지 않은 사용자입니다."));
+            }
+            
+        } catch (Exception e) {
+            log.error("Error getting unread notice count", e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("읽지 않은 공지사항 수 조회 중 오류가 발생했습니다."));
+        }
+    }
+    
+    /**
+     * Get read statistics of a notice
+     * @param id notice ID
+     * @return ResponseEntity containing read count and read ratio among managers
+     */
+    @GetMapping("/{id}/read-stats")
+    public ResponseEntity<ApiResponse<NoticeReadStatsResponse>> getReadStats(@PathVariable Long id) {
+        try {
+            Optional<NoticeReadStatsResponse> stats = noticeReadService.getReadStats(id);
+            
+            if (stats.isPresent()) {
+                return ResponseEntity.ok(ApiResponse.success(stats.get()));
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+            
+        } catch (Exception e) {
+            log.error("Error getting read stats for notice: {}", id, e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("공지사항 열람 현황 조회 중 오류가 발생했습니다."));
+        }
+    }
+    
     /**
      * Get all notices (for admin purposes)
      * @return ResponseEntity containing all notices
      */
     @GetMapping("/all")
-    public ResponseEntity<ApiResponse<NoticeListResponse>> getAllNotices() {
+    public ResponseEntity<ApiResponse<NoticeListResponse>> getAllNotices(WebRequest webRequest) {
         try {
             log.info("Getting all notices");
             
+            // Answer revalidations from the version stamp before loading any entity
+            String eTag = noticeService.getAllNoticesETag();
+            if (webRequest.checkNotModified(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            
             // Get all notices and convert to list response format
             var allNotices = noticeService.getAllNotices();
             NoticeListResponse response = NoticeListResponse.builder()
@@ -113,13 +183,17 @@ public class NoticeController {
                 .hasPrevious(false)
                 .build();
             
-            return ResponseEntity.ok(
-                ApiResponse.<NoticeListResponse>builder()
-                    .success(true)
-                    .message("전체 공지사항을 성공적으로 조회했습니다.")
-                    .data(response)
-                    .build()
-            );
+            return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT) // JSON and NDJSON share the list version
+                .body(
+                    ApiResponse.<NoticeListResponse>builder()
+                        .success(true)
+                        .message("전체 공지사항을 성공적으로 조회했습니다.")
+                        .data(response)
+                        .build()
+                );
             
         } catch (Exception e) {
             log.error("Error getting all notices", e);
@@ -132,6 +206,40 @@ public class NoticeController {
         }
     }
     
+    /**
+     * Stream all notices as newline-delimited JSON, one summary per line, as they are read
+     * from the database. Selected with Accept: application/x-ndjson; the response is flushed
+     * every few records so clients can render progressively.
+     * @return ResponseEntity streaming the notices
+     */
+    @GetMapping(value = "/all", produces = NdjsonWriter.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamAllNotices(WebRequest webRequest) {
+        try {
+            log.info("Streaming all notices");
+            
+            String eTag = noticeService.getAllNoticesETag();
+            if (webRequest.checkNotModified(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            
+            StreamingResponseBody body = out -> {
+                try (NdjsonWriter writer = new NdjsonWriter(objectMapper, out, ndjsonFlushEvery)) {
+                    noticeService.streamAllNotices(writer::write);
+                }
+            };
+            return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT) // JSON and NDJSON share the list version
+                .contentType(MediaType.parseMediaType(NdjsonWriter.MEDIA_TYPE))
+                .body(body);
+            
+        } catch (Exception e) {
+            log.error("Error streaming all notices", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
     /**
      * Create a new notice
      * @param request CreateNoticeRequest containing title and content
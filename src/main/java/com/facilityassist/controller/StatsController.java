@@ -0,0 +1,52 @@
+package com.facilityassist.controller;
+
+import com.facilityassist.dto.ApiResponse;
+import com.facilityassist.dto.StatsResponse;
+import com.facilityassist.service.StatisticsService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Timed(value = "facility.controller", histogram = true)
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+@Slf4j
+public class StatsController {
+
+    private final StatisticsService statisticsService;
+
+    /**
+     * Get notice and document totals with their per-unit and per-uploader breakdown
+     * @return ResponseEntity containing the statistics
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<StatsResponse>> getStats() {
+        try {
+            log.debug("Getting statistics");
+            
+            StatsResponse stats = statisticsService.getStats();
+            
+            return ResponseEntity.ok(
+                ApiResponse.<StatsResponse>builder()
+                    .success(true)
+                    .message("통계를 성공적으로 조회했습니다.")
+                    .data(stats)
+                    .build()
+            );
+            
+        } catch (Exception e) {
+            log.error("Error getting statistics", e);
+            return ResponseEntity.internalServerError().body(
+                ApiResponse.<StatsResponse>builder()
+                    .success(false)
+                    .message("통계 조회 중 오류가 발생했습니다.")
+                    .build()
+            );
+        }
+    }
+}
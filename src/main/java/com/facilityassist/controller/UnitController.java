@@ -1,23 +1,57 @@
 package com.facilityassist.controller;
 
-import com.facilityassist.model.Unit;
-import com.facilityassist.repository.UnitRepository;
+import com.facilityassist.dto.ApiResponse;
+import com.facilityassist.dto.UnitListResponse;
+import com.facilityassist.service.UnitService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RestController
+@Timed(value = "facility.controller", histogram = true)
 @RequestMapping("/api/units")
 @RequiredArgsConstructor
+@Slf4j
 public class UnitController {
 
-    private final UnitRepository unitRepository;
+    private final UnitService unitService;
 
+    /**
+     * Get units ordered by name with pagination
+     * @param page page number (0-based, defaults to 0)
+     * @param size page size (defaults to 50)
+     * @return ResponseEntity containing the units of the page
+     */
     @GetMapping
-    public List<Unit> getAllUnits() {
-        return unitRepository.findAll();
+    public ResponseEntity<ApiResponse<UnitListResponse>> getAllUnits(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            log.info("Getting units - page: {}, size: {}", page, size);
+            
+            UnitListResponse units = unitService.getUnits(page, size);
+            
+            return ResponseEntity.ok(
+                ApiResponse.<UnitListResponse>builder()
+                    .success(true)
+                    .message("부대 목록을 성공적으로 조회했습니다.")
+                    .data(units)
+                    .build()
+            );
+            
+        } catch (Exception e) {
+            log.error("Error getting units", e);
+            return ResponseEntity.internalServerError().body(
+                ApiResponse.<UnitListResponse>builder()
+                    .success(false)
+                    .message("부대 목록 조회 중 오류가 발생했습니다.")
+                    .build()
+            );
+        }
     }
 }
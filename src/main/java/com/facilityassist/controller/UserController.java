@@ -2,36 +2,94 @@ package com.facilityassist.controller;
 
 import com.facilityassist.dto.ApiResponse;
 import com.facilityassist.dto.UserInfoResponse;
-import com.facilityassist.model.User;
-import com.facilityassist.repository.UserRepository;
+import com.facilityassist.dto.UserListResponse;
 import com.facilityassist.service.UserService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
 import java.util.Optional;
 
 @RestController
+@Timed(value = "facility.controller", histogram = true)
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
 @Slf4j
 public class UserController {
 
-    private final UserRepository userRepository;
     private final UserService userService;
 
+    /**
+     * Get users with pagination
+     * @param page page number (0-based, defaults to 0)
+     * @param size page size (defaults to 20)
+     * @return ResponseEntity containing the users of the page
+     */
     @GetMapping
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public ResponseEntity<ApiResponse<UserListResponse>> getAllUsers(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            log.info("Getting users - page: {}, size: {}", page, size);
+            
+            UserListResponse users = userService.getUsers(page, size);
+            
+            return ResponseEntity.ok(
+                ApiResponse.<UserListResponse>builder()
+                    .success(true)
+                    .message("사용자 목록을 성공적으로 조회했습니다.")
+                    .data(users)
+                    .build()
+            );
+            
+        } catch (Exception e) {
+            log.error("Error getting users", e);
+            return ResponseEntity.internalServerError().body(
+                ApiResponse.<UserListResponse>builder()
+                    .success(false)
+                    .message("사용자 목록 조회 중 오류가 발생했습니다.")
+                    .build()
+            );
+        }
     }
 
+    /**
+     * Get managers with pagination
+     * @param page page number (0-based, defaults to 0)
+     * @param size page size (defaults to 20)
+     * @return ResponseEntity containing the managers of the page
+     */
     @GetMapping("/managers")
-    public List<User> getManagers() {
-        return userRepository.findByRole(com.facilityassist.model.UserRole.MANAGER);
+    public ResponseEntity<ApiResponse<UserListResponse>> getManagers(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            log.info("Getting managers - page: {}, size: {}", page, size);
+            
+            UserListResponse managers = userService.getManagers(page, size);
+            
+            return ResponseEntity.ok(
+                ApiResponse.<UserListResponse>builder()
+                    .success(true)
+                    .message("관리자 목록을 성공적으로 조회했습니다.")
+                    .data(managers)
+                    .build()
+            );
+            
+        } catch (Exception e) {
+            log.error("Error getting managers", e);
+            return ResponseEntity.internalServerError().body(
+                ApiResponse.<UserListResponse>builder()
+                    .success(false)
+                    .message("관리자 목록 조회 중 오류가 발생했습니다.")
+                    .build()
+            );
+        }
     }
 
     /**
@@ -0,0 +1,25 @@
+package com.facilityassist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * DTO for downloading several documents as one ZIP archive
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchiveDocumentsRequest {
+
+    /**
+     * IDs of the documents to include, in archive order
+     */
+    @NotEmpty(message = "문서를 하나 이상 선택해야 합니다.")
+    private List<Long> documentIds;
+}
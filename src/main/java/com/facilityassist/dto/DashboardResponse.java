@@ -0,0 +1,24 @@
+package com.facilityassist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the combined dashboard response
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardResponse {
+    
+    private UserInfoResponse user;
+    private NoticeListResponse notices;
+    private DocumentListResponse documents;
+    // Sections that failed or timed out and are left null
+    private List<String> unavailableSections;
+}
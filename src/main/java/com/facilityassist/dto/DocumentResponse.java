@@ -1,5 +1,7 @@
 package com.facilityassist.dto;
 
+import com.facilityassist.model.ContentStorage;
+import com.facilityassist.model.ProcessingStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,6 +26,10 @@ public class DocumentResponse {
     private Long fileSize;
     private String uploaderName;
     private String uploaderUsername;
+    private String checksum;
+    private ProcessingStatus processingStatus;
+    private Long parentDocumentId;
+    private Integer versionNumber;
     private LocalDateTime uploadedAt;
     private String formattedDate;
     private String formattedFileSize;
@@ -49,7 +55,7 @@ public class DocumentResponse {
     }
     
     /**
-     * Document download response with file content
+     * Document download metadata (the file content is streamed separately)
      */
     @Data
     @NoArgsConstructor
@@ -60,8 +66,30 @@ public class DocumentResponse {
         private String title;
         private String fileName;
         private String fileType;
-        private byte[] fileContent;
         private Long fileSize;
     }
+    
+    /**
+     * Entry of the version history of a document
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class DocumentVersion {
+        private Long id;
+        private Integer versionNumber;
+        private String title;
+        private String fileName;
+        private String fileType;
+        private Long fileSize;
+        private Long storedSize;
+        private ContentStorage storageType;
+        private String checksum;
+        private boolean latest;
+        private String uploaderName;
+        private LocalDateTime uploadedAt;
+        private String formattedDate;
+        private String formattedFileSize;
+    }
 }
-
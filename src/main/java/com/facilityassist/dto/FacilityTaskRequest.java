@@ -0,0 +1,34 @@
+package com.facilityassist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for creating or updating a facility task
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FacilityTaskRequest {
+
+    @NotNull(message = "시작일은 필수입니다.")
+    private LocalDateTime startDate;
+
+    private LocalDateTime endDate;
+
+    @Size(max = 5000, message = "내용은 5000자를 초과할 수 없습니다.")
+    private String info;
+
+    /**
+     * IDs of the units the task is assigned to (only used on creation)
+     */
+    private List<Long> unitIds;
+}
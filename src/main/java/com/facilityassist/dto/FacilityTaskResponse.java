@@ -0,0 +1,26 @@
+package com.facilityassist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for facility task response
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FacilityTaskResponse {
+
+    private Long id;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private String info;
+    private List<Long> unitIds;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.facilityassist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for notice read statistics
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NoticeReadStatsResponse {
+
+    private Long noticeId;
+    private int readCount;
+    private int managerCount;
+    private double readRatio;
+}
@@ -0,0 +1,47 @@
+package com.facilityassist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for notice and document statistics
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatsResponse {
+    
+    private long noticeCount;
+    private long activeDocumentCount;
+    private long storedBytes;
+    private List<UnitStats> units;
+    private List<UploaderStats> uploaders;
+    private LocalDateTime reconciledAt;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class UnitStats {
+        private Long unitId;
+        private long notices;
+        private long documents;
+        private long storedBytes;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class UploaderStats {
+        private Long uploaderId;
+        private long documents;
+        private long storedBytes;
+    }
+}
@@ -0,0 +1,35 @@
+package com.facilityassist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for unit list response with pagination
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UnitListResponse {
+    
+    private List<UnitSummary> units;
+    private int currentPage;
+    private boolean hasNext;
+    private boolean hasPrevious;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class UnitSummary {
+        private Long id;
+        private String name;
+        private String code;
+        private LocalDateTime createdAt;
+    }
+}
@@ -0,0 +1,23 @@
+package com.facilityassist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for user list response with pagination
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserListResponse {
+    
+    private List<UserInfoResponse> users;
+    private int currentPage;
+    private boolean hasNext;
+    private boolean hasPrevious;
+}
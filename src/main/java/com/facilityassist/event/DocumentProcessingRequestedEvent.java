@@ -0,0 +1,9 @@
+package com.facilityassist.event;
+
+/**
+ * Event published inside the transaction that creates a document processing job
+ * @param jobId processing job ID
+ * @param documentId document ID
+ */
+public record DocumentProcessingRequestedEvent(Long jobId, Long documentId) {
+}
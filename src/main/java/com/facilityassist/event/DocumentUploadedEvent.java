@@ -0,0 +1,18 @@
+package com.facilityassist.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event published inside the transaction that uploads a document
+ * @param documentId document ID
+ * @param title document title
+ * @param fileName original file name
+ * @param uploaderName name of the uploader
+ * @param uploadedAt upload time
+ * @param uploaderId ID of the uploader
+ * @param unitId unit of the uploader, or null
+ * @param fileSize file size in bytes
+ */
+public record DocumentUploadedEvent(Long documentId, String title, String fileName, String uploaderName,
+                                    LocalDateTime uploadedAt, Long uploaderId, Long unitId, Long fileSize) {
+}
@@ -0,0 +1,12 @@
+package com.facilityassist.event;
+
+/**
+ * Event published inside the transaction that uploads a new version of a document, for the
+ * version it replaces as the latest
+ * @param documentId ID of the replaced version
+ * @param uploaderId ID of the uploader of the replaced version
+ * @param unitId unit of that uploader, or null
+ * @param fileSize file size of the replaced version in bytes
+ */
+public record DocumentVersionSupersededEvent(Long documentId, Long uploaderId, Long unitId, Long fileSize) {
+}
@@ -0,0 +1,11 @@
+package com.facilityassist.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event published inside the transaction that creates or updates a facility task
+ * @param taskId facility task ID
+ * @param endDate new deadline of the task (null if the task has no deadline)
+ */
+public record FacilityTaskChangedEvent(Long taskId, LocalDateTime endDate) {
+}
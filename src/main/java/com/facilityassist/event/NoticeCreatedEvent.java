@@ -0,0 +1,15 @@
+package com.facilityassist.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event published inside the transaction that creates a notice
+ * @param noticeId notice ID
+ * @param title notice title
+ * @param authorName name of the author
+ * @param createdAt creation time
+ * @param unitId unit of the author, or null
+ */
+public record NoticeCreatedEvent(Long noticeId, String title, String authorName, LocalDateTime createdAt,
+                                 Long unitId) {
+}
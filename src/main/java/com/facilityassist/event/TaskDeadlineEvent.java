@@ -0,0 +1,19 @@
+package com.facilityassist.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Event fired when a facility task deadline is approaching or has passed
+ * @param taskId facility task ID
+ * @param type whether the deadline is approaching or has passed
+ * @param endDate deadline of the task
+ * @param managerIds IDs of the managers of the units the task is assigned to
+ */
+public record TaskDeadlineEvent(Long taskId, Type type, LocalDateTime endDate, List<Long> managerIds) {
+
+    public enum Type {
+        DUE_SOON,
+        OVERDUE
+    }
+}
@@ -0,0 +1,9 @@
+package com.facilityassist.model;
+
+/**
+ * How the content of a document is stored
+ */
+public enum ContentStorage {
+    FULL,   // The content itself
+    DELTA   // A BinaryDelta against the content of the base document
+}
@@ -5,10 +5,13 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 /**
- * Entity representing uploaded documents
+ * Entity representing uploaded documents. Every version of a document is its own row; versions
+ * after the first link to the first version through parentDocumentId.
  */
 @Entity
-@Table(name = "DOCUMENTS")
+@Table(name = "DOCUMENTS", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_document_version", columnNames = {"parent_document_id", "version_number"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -39,6 +42,64 @@ public class Document {
     @Column(name = "file_content", nullable = false)
     private byte[] fileContent;
     
+    /**
+     * Whether file_content holds the content or a delta against baseDocumentId
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "storage_type", nullable = false, columnDefinition = "VARCHAR(10) DEFAULT 'FULL'")
+    @Builder.Default
+    private ContentStorage storageType = ContentStorage.FULL;
+    
+    /**
+     * Version the delta in file_content applies to, when stored as a delta
+     */
+    @Column(name = "base_document_id")
+    private Long baseDocumentId;
+    
+    /**
+     * Deltas between this version and the nearest full snapshot, 0 when stored in full
+     */
+    @Column(name = "delta_depth", nullable = false, columnDefinition = "INTEGER DEFAULT 0")
+    @Builder.Default
+    private Integer deltaDepth = 0;
+    
+    /**
+     * Size of file_content when it differs from fileSize, i.e. when stored as a delta
+     */
+    @Column(name = "stored_size")
+    private Long storedSize;
+    
+    /**
+     * First version of the document this row is a later version of; null for a first version
+     */
+    @Column(name = "parent_document_id")
+    private Long parentDocumentId;
+    
+    @Column(name = "version_number", nullable = false, columnDefinition = "INTEGER DEFAULT 1")
+    @Builder.Default
+    private Integer versionNumber = 1;
+    
+    /**
+     * Whether this is the newest version; only newest versions are listed and counted
+     */
+    @Column(name = "latest_version", nullable = false, columnDefinition = "BOOLEAN DEFAULT TRUE")
+    @Builder.Default
+    private Boolean latestVersion = true;
+    
+    /**
+     * Hex SHA-256 of the content, computed while the upload is streamed
+     */
+    @Column(name = "checksum", length = 64)
+    private String checksum;
+    
+    /**
+     * State of the post-upload processing pipeline; documents stored without it count as completed
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "processing_status", length = 20)
+    @Builder.Default
+    private ProcessingStatus processingStatus = ProcessingStatus.COMPLETED;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "uploaded_by", nullable = false)
     private User uploadedBy;
@@ -47,6 +108,13 @@ public class Document {
     @Builder.Default
     private LocalDateTime uploadedAt = LocalDateTime.now();
     
+    /**
+     * Last change of any field shown in document lists, for the list ETag
+     */
+    @Column(name = "modified_at", columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
+    @Builder.Default
+    private LocalDateTime modifiedAt = LocalDateTime.now();
+    
     @Column(name = "is_active")
     @Builder.Default
     private Boolean isActive = true;
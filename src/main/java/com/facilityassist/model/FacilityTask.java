@@ -10,7 +10,7 @@ import java.util.List;
  * Entity representing tasks related to facilities
  */
 @Entity
-@Table(name = "FACILITY_TASK")
+@Table(name = "FACILITY_TASK", indexes = @Index(name = "idx_facility_task_end_date", columnList = "end_date"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
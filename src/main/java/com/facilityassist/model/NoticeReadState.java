@@ -0,0 +1,32 @@
+package com.facilityassist.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entity holding which users have read a notice, as a serialized Roaring bitmap of user IDs
+ */
+@Entity
+@Table(name = "NOTICE_READ_STATE")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NoticeReadState {
+
+    @Id
+    @Column(name = "notice_id")
+    private Long noticeId;
+
+    @Lob
+    @Column(name = "reader_bitmap", nullable = false)
+    private byte[] readerBitmap;
+
+    @Column(name = "read_count", nullable = false)
+    private Integer readCount;
+
+    @Column(name = "updated_at")
+    @Builder.Default
+    private LocalDateTime updatedAt = LocalDateTime.now();
+}
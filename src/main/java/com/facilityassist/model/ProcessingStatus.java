@@ -0,0 +1,11 @@
+package com.facilityassist.model;
+
+/**
+ * Post-upload processing state of a document and of its processing job
+ */
+public enum ProcessingStatus {
+    PENDING,     // Waiting for a worker, possibly until a retry is due
+    PROCESSING,  // Claimed by a worker
+    COMPLETED,   // Every stage succeeded
+    FAILED       // Gave up after the maximum number of attempts
+}
@@ -0,0 +1,89 @@
+package com.facilityassist.monitoring;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.function.Supplier;
+
+/**
+ * Entry counts and hit ratios of the second-level cache regions and the query cache.
+ *
+ * Raw hit/miss/put counters are already exported by hibernate-micrometer; the ratios here
+ * are cumulative since startup. Entry counts walk the region, which is fine for the small
+ * reference-data regions configured in ehcache.xml.
+ */
+@Component
+@RequiredArgsConstructor
+public class HibernateCacheMetrics implements MeterBinder {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        CacheManager cacheManager = sessionFactory.getCache().getRegionFactory() instanceof JCacheRegionFactory factory
+            ? factory.getCacheManager()
+            : null;
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            if (!(sessionFactory.getCache().getRegion(region) instanceof DomainDataRegion)) {
+                continue;
+            }
+            Gauge.builder("facility.cache.hit.ratio", statistics,
+                    stats -> hitRatio(stats.getDomainDataRegionStatistics(region)))
+                .tag("region", region)
+                .description("Second-level cache hits over lookups since startup")
+                .register(registry);
+            bindEntryCount(registry, cacheManager, region);
+        }
+
+        Gauge.builder("facility.cache.hit.ratio", statistics,
+                stats -> ratio(stats.getQueryCacheHitCount(), stats.getQueryCacheMissCount()))
+            .tag("region", "query")
+            .description("Query cache hits over lookups since startup")
+            .register(registry);
+        bindEntryCount(registry, cacheManager, "default-query-results-region");
+    }
+
+    private static void bindEntryCount(MeterRegistry registry, CacheManager cacheManager, String region) {
+        if (cacheManager == null) {
+            return;
+        }
+        Supplier<Number> entries = () -> {
+            Cache<Object, Object> cache = cacheManager.getCache(region);
+            if (cache == null || cache.isClosed()) {
+                return 0;
+            }
+            long count = 0;
+            for (Cache.Entry<Object, Object> ignored : cache) {
+                count++;
+            }
+            return count;
+        };
+        Gauge.builder("facility.cache.entries", entries)
+            .tag("region", region)
+            .description("Entries currently held by the cache region")
+            .register(registry);
+    }
+
+    private static double hitRatio(CacheRegionStatistics regionStatistics) {
+        return regionStatistics == null ? 0.0 : ratio(regionStatistics.getHitCount(), regionStatistics.getMissCount());
+    }
+
+    private static double ratio(long hits, long misses) {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,77 @@
+package com.facilityassist.monitoring;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL statements executed on behalf of one request: statement count, total JDBC time and rows
+ * fetched. Bound to the request thread by {@link QueryStatsFilter} and filled in by the
+ * proxies of {@link QueryStatsDataSource}; work handed off to other threads is not counted.
+ */
+public final class QueryStats {
+
+    /**
+     * Request attribute under which the stats of a request are exposed, e.g. to tests
+     */
+    public static final String REQUEST_ATTRIBUTE = QueryStats.class.getName();
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long elapsedNanos;
+    private long rowCount;
+
+    /**
+     * Start recording on the current thread
+     * @return the stats being recorded
+     */
+    static QueryStats start() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Stop recording on the current thread
+     */
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Get the stats being recorded on the current thread
+     * @return the stats, or null when nothing is being recorded
+     */
+    static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(long nanos) {
+        statementCount++;
+        elapsedNanos += nanos;
+    }
+
+    void recordRow() {
+        rowCount++;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public String toString() {
+        return statementCount + " statements, " + getElapsedMillis() + " ms, " + rowCount + " rows";
+    }
+}
@@ -0,0 +1,122 @@
+package com.facilityassist.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource wrapper whose connections attribute every statement execution, its JDBC time and
+ * the rows read from its result sets to the {@link QueryStats} of the calling thread.
+ *
+ * The wrapper is a DelegatingDataSource, so Spring Boot still finds the Hikari pool behind it
+ * for pool metrics and unwrap() reaches it; closing the wrapper closes the pool. Connections,
+ * statements and result sets are wrapped in JDK proxies. A batch counts as one statement, since
+ * it is one round trip. When no request is being recorded, statements and result sets are
+ * passed through without being wrapped.
+ */
+final class QueryStatsDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    /**
+     * Wrap a DataSource so that its connections report to {@link QueryStats}
+     * @param dataSource the DataSource to wrap
+     */
+    QueryStatsDataSource(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    /**
+     * Close the wrapped pool, which is registered for destruction through this wrapper
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable pool) {
+            pool.close();
+        }
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = method.invoke(target, args);
+            if (QueryStats.current() == null) {
+                return result;
+            }
+            if (result instanceof CallableStatement statement) {
+                return wrapStatement(CallableStatement.class, statement);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrapStatement(PreparedStatement.class, statement);
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(Statement.class, statement);
+            }
+            return result;
+        });
+    }
+
+    private static <S extends Statement> S wrapStatement(Class<S> type, S statement) {
+        return proxy(type, statement, (target, method, args) -> {
+            QueryStats stats = QueryStats.current();
+            if (stats == null) {
+                return method.invoke(target, args);
+            }
+            Object result;
+            if (method.getName().startsWith("execute")) {
+                long start = System.nanoTime();
+                try {
+                    result = method.invoke(target, args);
+                } finally {
+                    stats.recordStatement(System.nanoTime() - start);
+                }
+            } else {
+                result = method.invoke(target, args);
+            }
+            // executeQuery, getResultSet and getGeneratedKeys
+            return result instanceof ResultSet resultSet ? wrapResultSet(resultSet, stats) : result;
+        });
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet, QueryStats stats) {
+        return proxy(ResultSet.class, resultSet, (target, method, args) -> {
+            Object result = method.invoke(target, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                stats.recordRow();
+            }
+            return result;
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, T target, Interceptor interceptor) {
+        return type.cast(Proxy.newProxyInstance(QueryStatsDataSource.class.getClassLoader(), new Class<?>[]{type},
+            (proxy, method, args) -> {
+                try {
+                    return interceptor.invoke(target, method, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }));
+    }
+
+    @FunctionalInterface
+    private interface Interceptor {
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
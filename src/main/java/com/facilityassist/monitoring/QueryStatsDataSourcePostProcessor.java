@@ -0,0 +1,28 @@
+package com.facilityassist.monitoring;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the primary pool once it is configured, so that JPA and JdbcTemplate statements are
+ * counted alike. The wrapper delegates to the pool rather than replacing it with a proxy, so the
+ * Hikari pool stays reachable for metrics. The blob pool is left alone: it only streams
+ * downloads on async threads.
+ */
+@Component
+@ConditionalOnProperty(name = "facility.query-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsDataSourcePostProcessor implements BeanPostProcessor {
+
+    private static final String PRIMARY_DATA_SOURCE = "dataSource";
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (PRIMARY_DATA_SOURCE.equals(beanName) && bean instanceof DataSource dataSource) {
+            return new QueryStatsDataSource(dataSource);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,123 @@
+package com.facilityassist.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the SQL statements each request executes and checks them against the endpoint's
+ * budget. Depending on facility.query-stats, the totals are added as X-Sql-* response headers
+ * and/or recorded as facility.request.sql.* metrics; a budget overrun is logged as a warning.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "facility.query-stats.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+    public static final String ROWS_HEADER = "X-Sql-Rows";
+
+    private final QueryStatsProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryStats stats = QueryStats.start();
+        request.setAttribute(QueryStats.REQUEST_ATTRIBUTE, stats);
+        try {
+            if (properties.isResponseHeaders()) {
+                filterChain.doFilter(request, new HeaderWritingResponse(response, stats));
+                if (!response.isCommitted()) {
+                    writeHeaders(response, stats);
+                }
+            } else {
+                filterChain.doFilter(request, response);
+            }
+        } finally {
+            QueryStats.stop();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStats stats) {
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNMAPPED";
+
+        if (properties.isMetrics()) {
+            Tags tags = Tags.of("method", method, "uri", uri);
+            DistributionSummary.builder("facility.request.sql.statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+            Timer.builder("facility.request.sql.time")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getElapsedNanos(), TimeUnit.NANOSECONDS);
+            DistributionSummary.builder("facility.request.sql.rows")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getRowCount());
+        }
+
+        String endpoint = method + " " + uri;
+        QueryStatsProperties.Budget budget = properties.getBudgets().getOrDefault(endpoint, properties.getDefaultBudget());
+        if (stats.getStatementCount() > budget.getStatements() || stats.getElapsedMillis() > budget.getTimeMs()) {
+            log.warn("SQL budget exceeded for {}: {} (budget: {} statements, {} ms)",
+                endpoint, stats, budget.getStatements(), budget.getTimeMs());
+            if (properties.isMetrics()) {
+                Counter.builder("facility.request.sql.budget.exceeded")
+                    .tags("method", method, "uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            }
+        }
+    }
+
+    private static void writeHeaders(HttpServletResponse response, QueryStats stats) {
+        response.setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatementCount()));
+        response.setHeader(TIME_HEADER, String.valueOf(stats.getElapsedMillis()));
+        response.setHeader(ROWS_HEADER, String.valueOf(stats.getRowCount()));
+    }
+
+    /**
+     * Adds the headers just before a body that outgrows the buffer commits the response.
+     * Statements run after that point, e.g. while serializing, only reach the metrics.
+     */
+    private static class HeaderWritingResponse extends OnCommittedResponseWrapper {
+
+        private final QueryStats stats;
+
+        HeaderWritingResponse(HttpServletResponse response, QueryStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeaders((HttpServletResponse) getResponse(), stats);
+        }
+    }
+}
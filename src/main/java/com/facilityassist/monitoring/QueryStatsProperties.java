@@ -0,0 +1,45 @@
+package com.facilityassist.monitoring;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings under facility.query-stats.
+ *
+ * Budgets are keyed by method and mapped path pattern, e.g. {@code "[GET /api/notices/{id}]"}
+ * in YAML; endpoints without an entry use the default budget.
+ */
+@Component
+@ConfigurationProperties("facility.query-stats")
+@Data
+public class QueryStatsProperties {
+
+    /**
+     * Whether to wrap the primary pool and record per-request stats at all
+     */
+    private boolean enabled = true;
+
+    /**
+     * Add X-Sql-* response headers (dev)
+     */
+    private boolean responseHeaders = false;
+
+    /**
+     * Record facility.request.sql.* metrics (prod)
+     */
+    private boolean metrics = true;
+
+    private Budget defaultBudget = new Budget();
+
+    private Map<String, Budget> budgets = new HashMap<>();
+
+    @Data
+    public static class Budget {
+        private int statements = 20;
+        private long timeMs = 500;
+    }
+}
@@ -0,0 +1,197 @@
+package com.facilityassist.repository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+
+/**
+ * Binary delta format for document versions stored against their previous version.
+ *
+ * A delta is the magic "FAD1", the target length, and a sequence of operations: COPY an offset
+ * and length from the base, or INSERT literal bytes, ending with END. The encoder indexes the base
+ * at fixed block boundaries with a rolling hash and extends every match it finds in both
+ * directions, so an edit costs about one block plus the changed bytes. Applying a delta reads the
+ * operations as a stream and needs random access only to the base, which is kept in a file.
+ */
+public final class BinaryDelta {
+
+    private static final int MAGIC = 0x46414431; // "FAD1"
+    private static final int OP_END = 0;
+    private static final int OP_COPY = 1;
+    private static final int OP_INSERT = 2;
+    private static final int BLOCK = 64;
+    private static final int HASH_MULTIPLIER = 31;
+    private static final int COPY_BUFFER = 64 * 1024;
+
+    private BinaryDelta() {
+    }
+
+    /**
+     * Encode target as a delta against base
+     * @param base content of the previous version
+     * @param target content of the new version
+     * @return the delta
+     */
+    public static byte[] encode(byte[] base, byte[] target) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeLong(target.length);
+
+            int[] index = indexBlocks(base);
+            int mask = index.length - 1;
+            int highPower = power(BLOCK - 1);
+
+            int pending = 0; // start of the bytes not yet emitted
+            int i = 0;
+            int hash = target.length >= BLOCK ? hash(target, 0) : 0;
+            while (i + BLOCK <= target.length) {
+                int candidate = index[hash & mask] - 1;
+                if (candidate >= 0 && regionEquals(base, candidate, target, i, BLOCK)) {
+                    int start = i;
+                    int baseStart = candidate;
+                    while (start > pending && baseStart > 0 && target[start - 1] == base[baseStart - 1]) {
+                        start--;
+                        baseStart--;
+                    }
+                    int end = i + BLOCK;
+                    int baseEnd = candidate + BLOCK;
+                    while (end < target.length && baseEnd < base.length && target[end] == base[baseEnd]) {
+                        end++;
+                        baseEnd++;
+                    }
+                    writeInsert(out, target, pending, start);
+                    out.writeByte(OP_COPY);
+                    out.writeInt(baseStart);
+                    out.writeInt(end - start);
+                    pending = end;
+                    i = end;
+                    if (i + BLOCK <= target.length) {
+                        hash = hash(target, i);
+                    }
+                    continue;
+                }
+                if (i + BLOCK < target.length) {
+                    hash = (hash - target[i] * highPower) * HASH_MULTIPLIER + target[i + BLOCK];
+                }
+                i++;
+            }
+            writeInsert(out, target, pending, target.length);
+            out.writeByte(OP_END);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reconstruct the target of a delta
+     * @param delta delta stream, read to its END operation
+     * @param base file holding the content the delta was encoded against
+     * @param out stream to write the reconstructed content to; left open
+     * @return number of bytes written
+     */
+    public static long apply(InputStream delta, RandomAccessFile base, OutputStream out) throws IOException {
+        DataInputStream in = new DataInputStream(delta);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a document delta");
+        }
+        long expected = in.readLong();
+        byte[] buffer = new byte[COPY_BUFFER];
+        long written = 0;
+
+        while (true) {
+            int op = in.readUnsignedByte();
+            if (op == OP_END) {
+                break;
+            }
+            if (op == OP_COPY) {
+                long offset = Integer.toUnsignedLong(in.readInt());
+                int remaining = in.readInt();
+                base.seek(offset);
+                while (remaining > 0) {
+                    int n = base.read(buffer, 0, Math.min(buffer.length, remaining));
+                    if (n < 0) {
+                        throw new EOFException("Delta copies past the end of its base");
+                    }
+                    out.write(buffer, 0, n);
+                    remaining -= n;
+                    written += n;
+                }
+            } else if (op == OP_INSERT) {
+                int remaining = in.readInt();
+                while (remaining > 0) {
+                    int n = in.read(buffer, 0, Math.min(buffer.length, remaining));
+                    if (n < 0) {
+                        throw new EOFException("Truncated delta");
+                    }
+                    out.write(buffer, 0, n);
+                    remaining -= n;
+                    written += n;
+                }
+            } else {
+                throw new IOException("Unknown delta operation " + op);
+            }
+        }
+        if (written != expected) {
+            throw new IOException("Delta produced " + written + " bytes, expected " + expected);
+        }
+        return written;
+    }
+
+    private static void writeInsert(DataOutputStream out, byte[] data, int from, int to) throws IOException {
+        if (to > from) {
+            out.writeByte(OP_INSERT);
+            out.writeInt(to - from);
+            out.write(data, from, to - from);
+        }
+    }
+
+    /**
+     * Open-addressed table of block hash to block offset + 1; colliding blocks overwrite each other
+     */
+    private static int[] indexBlocks(byte[] base) {
+        int blocks = base.length / BLOCK;
+        int[] index = new int[Integer.highestOneBit(Math.max(blocks, 1) * 2 - 1) << 1];
+        int mask = index.length - 1;
+        for (int offset = (blocks - 1) * BLOCK; offset >= 0; offset -= BLOCK) {
+            // Walk backwards so the earliest block wins a collision
+            index[hash(base, offset) & mask] = offset + 1;
+        }
+        return index;
+    }
+
+    private static int hash(byte[] data, int offset) {
+        int hash = 0;
+        for (int i = offset; i < offset + BLOCK; i++) {
+            hash = hash * HASH_MULTIPLIER + data[i];
+        }
+        return hash;
+    }
+
+    private static int power(int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= HASH_MULTIPLIER;
+        }
+        return result;
+    }
+
+    private static boolean regionEquals(byte[] a, int aOffset, byte[] b, int bOffset, int length) {
+        if (aOffset + length > a.length || bOffset + length > b.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (a[aOffset + i] != b[bOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,353 @@
+package com.facilityassist.repository;
+
+import com.facilityassist.model.ContentStorage;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streams document content into and out of the store through the dedicated blob connection pool
+ */
+@Repository
+public class DocumentContentRepository {
+
+    // Deltas are only ever added on top of a chain, so this is reached only under heavy churn
+    private static final int MAX_CHAIN_READS = 3;
+
+    private final JdbcTemplate blobJdbcTemplate;
+
+    public DocumentContentRepository(@Qualifier("blobJdbcTemplate") JdbcTemplate blobJdbcTemplate) {
+        this.blobJdbcTemplate = blobJdbcTemplate;
+    }
+
+    /**
+     * Copy the content of an active document to the given stream. Content stored as a delta is
+     * reconstructed on the way: the chain is walked down to the nearest full snapshot, which is
+     * copied into a temp file, and the deltas are applied forward from there, alternating between
+     * two temp files, until the newest delta is applied straight into the stream.
+     * @param id document ID
+     * @param out stream to write the content to
+     * @return false if no active document exists with the ID
+     */
+    public boolean copyContent(Long id, OutputStream out) {
+        try {
+            return writeContent(id, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean writeContent(Long id, OutputStream out) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            List<Long> chain = deltaChain(id);
+            if (chain == null) {
+                return false;
+            }
+            if (chain.size() == 1) {
+                // Type and content come from the same row read; a switch to delta storage since
+                // the chain was read sends us round again
+                Boolean written = readFull(id, out, true);
+                if (written == null) {
+                    return false;
+                }
+                if (written) {
+                    return true;
+                }
+            } else if (rebuild(id, chain, out)) {
+                return true;
+            }
+            if (attempt == MAX_CHAIN_READS) {
+                throw new IllegalStateException("Storage of document " + id + " kept changing while it was read");
+            }
+        }
+    }
+
+    /**
+     * IDs from the document down to its nearest full snapshot, from storage type and base columns
+     * only; null if no active document exists with the ID
+     */
+    private List<Long> deltaChain(Long id) {
+        List<Long> chain = new ArrayList<>();
+        Long current = id;
+        while (current != null) {
+            Long documentId = current;
+            Long[] base = new Long[1];
+            Boolean found = blobJdbcTemplate.query(
+                "SELECT storage_type, base_document_id FROM DOCUMENTS WHERE id = ?" +
+                (chain.isEmpty() ? " AND is_active = TRUE" : ""),
+                rs -> {
+                    if (!rs.next()) {
+                        return false;
+                    }
+                    if (ContentStorage.DELTA.name().equals(rs.getString(1))) {
+                        base[0] = rs.getLong(2);
+                    }
+                    return true;
+                },
+                documentId);
+            if (!Boolean.TRUE.equals(found)) {
+                if (chain.isEmpty()) {
+                    return null;
+                }
+                throw new IllegalStateException("Base " + documentId + " of document " + chain.get(chain.size() - 1) + " is missing");
+            }
+            chain.add(documentId);
+            current = base[0];
+        }
+        return chain;
+    }
+
+    /**
+     * Rebuild a delta-stored document from its chain. Intermediate deltas are applied while their
+     * row is read, into a local temp file; the newest delta is copied out and the connection
+     * released before it is applied into the caller's stream, which may be a slow client.
+     * @return false if the snapshot is no longer stored in full
+     */
+    private boolean rebuild(Long id, List<Long> chain, OutputStream out) throws IOException {
+        Path current = Files.createTempFile("document-base-", ".tmp");
+        Path next = Files.createTempFile("document-base-", ".tmp");
+        Path newest = Files.createTempFile("document-delta-", ".tmp");
+        try {
+            try (OutputStream snapshotOut = new BufferedOutputStream(Files.newOutputStream(current))) {
+                if (!Boolean.TRUE.equals(readFull(chain.get(chain.size() - 1), snapshotOut, false))) {
+                    return false;
+                }
+            }
+            for (int i = chain.size() - 2; i > 0; i--) {
+                Path base = current;
+                try (OutputStream rebuilt = new BufferedOutputStream(Files.newOutputStream(next))) {
+                    readDelta(chain.get(i), in -> {
+                        try (RandomAccessFile baseFile = new RandomAccessFile(base.toFile(), "r")) {
+                            BinaryDelta.apply(new BufferedInputStream(in), baseFile, rebuilt);
+                        }
+                    });
+                }
+                current = next;
+                next = base;
+            }
+            readDelta(id, in -> Files.copy(in, newest, StandardCopyOption.REPLACE_EXISTING));
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(newest));
+                 RandomAccessFile baseFile = new RandomAccessFile(current.toFile(), "r")) {
+                BinaryDelta.apply(in, baseFile, out);
+            }
+            return true;
+        } finally {
+            Files.deleteIfExists(current);
+            Files.deleteIfExists(next);
+            Files.deleteIfExists(newest);
+        }
+    }
+
+    /**
+     * Copy a row's content if it is stored in full
+     * @return null if the row does not exist, false if it is stored as a delta
+     */
+    private Boolean readFull(Long id, OutputStream out, boolean activeOnly) {
+        return blobJdbcTemplate.query(
+            "SELECT storage_type, file_content FROM DOCUMENTS WHERE id = ?" + (activeOnly ? " AND is_active = TRUE" : ""),
+            rs -> {
+                if (!rs.next()) {
+                    return null;
+                }
+                if (ContentStorage.DELTA.name().equals(rs.getString(1))) {
+                    return false;
+                }
+                try (InputStream in = rs.getBinaryStream(2)) {
+                    in.transferTo(out);
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            },
+            id);
+    }
+
+    /**
+     * Hand a delta row's content to the reader. Deltas are never rewritten, so the row is read
+     * by ID alone.
+     */
+    private void readDelta(Long id, DeltaReader reader) {
+        blobJdbcTemplate.query("SELECT file_content FROM DOCUMENTS WHERE id = ?", rs -> {
+            if (!rs.next()) {
+                throw new IllegalStateException("Delta " + id + " is missing");
+            }
+            try (InputStream in = rs.getBinaryStream(1)) {
+                reader.read(in);
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, id);
+    }
+
+    /**
+     * Replace the stored content of a version with a delta against its previous version, unless
+     * it has been replaced already. The logical content, size and checksum are unchanged.
+     * @param id document ID
+     * @param delta BinaryDelta of the content against the base
+     * @param baseId document the delta applies to
+     * @param deltaDepth deltas between this version and the nearest full snapshot
+     * @return true if replaced
+     */
+    public boolean replaceWithDelta(Long id, byte[] delta, Long baseId, int deltaDepth) {
+        return blobJdbcTemplate.update(
+            "UPDATE DOCUMENTS SET file_content = ?, storage_type = 'DELTA', base_document_id = ?, delta_depth = ?, stored_size = ? " +
+            "WHERE id = ? AND storage_type = 'FULL'",
+            delta, baseId, deltaDepth, (long) delta.length, id) == 1;
+    }
+
+    /**
+     * Read the first bytes of the content of an active document
+     * @param id document ID
+     * @param length maximum number of bytes to read
+     * @return the bytes read, or null if no active document exists with the ID
+     */
+    public byte[] readPrefix(Long id, int length) {
+        byte[][] prefix = new byte[1][];
+        Boolean found = blobJdbcTemplate.query(
+            "SELECT storage_type, file_content FROM DOCUMENTS WHERE id = ? AND is_active = TRUE",
+            rs -> {
+                if (!rs.next()) {
+                    return false;
+                }
+                if (!ContentStorage.DELTA.name().equals(rs.getString(1))) {
+                    try (InputStream in = rs.getBinaryStream(2)) {
+                        prefix[0] = in.readNBytes(length);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return true;
+            },
+            id);
+        if (!Boolean.TRUE.equals(found)) {
+            return null;
+        }
+        if (prefix[0] == null) {
+            // Stored as a delta; the prefix is only known after reconstruction, which stops once
+            // the newest delta has produced enough bytes
+            PrefixCollector collector = new PrefixCollector(length);
+            try {
+                return copyContent(id, collector) ? collector.toByteArray() : null;
+            } catch (UncheckedIOException e) {
+                if (e.getCause() instanceof PrefixComplete) {
+                    return collector.toByteArray();
+                }
+                throw e;
+            }
+        }
+        return prefix[0];
+    }
+
+    /**
+     * Insert an inactive document row, streaming its content from the given stream as it is read.
+     * The row stays invisible to every query until DocumentRepository.activate publishes it.
+     * @param fileName original file name
+     * @param fileType content type
+     * @param uploaderId ID of the uploading user
+     * @param content content stream, read to the end
+     * @return ID of the new row
+     */
+    public Long insertPending(String fileName, String fileType, Long uploaderId, InputStream content) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        blobJdbcTemplate.update(connection -> {
+            // Only the id: modified_at has a column default and would be returned as a key too
+            PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO DOCUMENTS (title, file_name, file_type, file_size, file_content, uploaded_by, uploaded_at, modified_at, is_active, processing_status) " +
+                "VALUES ('', ?, ?, 0, ?, ?, ?, ?, FALSE, 'PENDING')", new String[] {"id"});
+            statement.setString(1, fileName);
+            statement.setString(2, fileType);
+            statement.setBinaryStream(3, content);
+            statement.setLong(4, uploaderId);
+            statement.setTimestamp(5, now);
+            statement.setTimestamp(6, now);
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    /**
+     * Delete a row that was never activated, e.g. after a failed or rejected upload
+     * @param id document ID
+     */
+    public void deletePending(Long id) {
+        blobJdbcTemplate.update("DELETE FROM DOCUMENTS WHERE id = ? AND is_active = FALSE", id);
+    }
+
+    /**
+     * Delete rows that were never activated and were inserted before the cutoff. An upload removes
+     * its own row when it fails, so these are left by uploads cut short by a crash or restart.
+     * @param insertedBefore cutoff on the insertion time
+     * @return number of rows deleted
+     */
+    public int deleteStalePending(LocalDateTime insertedBefore) {
+        return blobJdbcTemplate.update(
+            "DELETE FROM DOCUMENTS d WHERE d.is_active = FALSE AND d.uploaded_at < ? " +
+            "AND NOT EXISTS (SELECT 1 FROM DOCUMENTS b WHERE b.base_document_id = d.id)",
+            Timestamp.valueOf(insertedBefore));
+    }
+
+    private interface DeltaReader {
+        void read(InputStream delta) throws IOException;
+    }
+
+    /**
+     * Keeps the first bytes written to it and stops the write once it has them
+     */
+    private static final class PrefixCollector extends OutputStream {
+        private final byte[] prefix;
+        private int count;
+
+        PrefixCollector(int limit) {
+            this.prefix = new byte[limit];
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            int n = Math.min(len, prefix.length - count);
+            System.arraycopy(b, off, prefix, count, n);
+            count += n;
+            if (count == prefix.length) {
+                throw new PrefixComplete();
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(prefix, count);
+        }
+    }
+
+    /**
+     * Thrown by PrefixCollector to end the reconstruction early
+     */
+    private static final class PrefixComplete extends IOException {
+        PrefixComplete() {
+            super("Prefix complete");
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.facilityassist.repository;
+
+import com.facilityassist.model.DocumentProcessingJob;
+import com.facilityassist.model.ProcessingStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for document processing jobs. State changes are single conditional updates, so a
+ * job can only be claimed by one worker even when it is submitted more than once.
+ */
+@Repository
+public interface DocumentProcessingJobRepository extends JpaRepository<DocumentProcessingJob, Long> {
+
+    /**
+     * Find the IDs of pending jobs that are due and have attempts left, oldest first
+     */
+    @Query("SELECT j.id FROM DocumentProcessingJob j WHERE j.status = :status AND j.nextAttemptAt <= :now " +
+           "AND j.attempts < :maxAttempts ORDER BY j.nextAttemptAt")
+    List<Long> findDueIds(ProcessingStatus status, LocalDateTime now, int maxAttempts, Pageable pageable);
+
+    /**
+     * Claim a pending, due job that has attempts left for a worker and count the attempt
+     * @return 1 if claimed, 0 if another worker got it first or it is not pending, not due or out of attempts
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DocumentProcessingJob j SET j.status = :processing, j.lockedAt = :now, j.attempts = j.attempts + 1 " +
+           "WHERE j.id = :id AND j.status = :pending AND j.nextAttemptAt <= :now AND j.attempts < :maxAttempts")
+    int claim(Long id, LocalDateTime now, int maxAttempts, ProcessingStatus pending, ProcessingStatus processing);
+
+    /**
+     * Find the jobs whose worker has been holding them since before the given time
+     */
+    @Query("SELECT j FROM DocumentProcessingJob j WHERE j.status = :processing AND j.lockedAt < :lockedBefore")
+    List<DocumentProcessingJob> findStale(LocalDateTime lockedBefore, ProcessingStatus processing);
+
+    /**
+     * Set the outcome of a claimed job
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DocumentProcessingJob j SET j.status = :status, j.nextAttemptAt = :nextAttemptAt, j.lockedAt = null, " +
+           "j.lastError = :lastError, j.completedAt = :completedAt WHERE j.id = :id")
+    int finish(Long id, ProcessingStatus status, LocalDateTime nextAttemptAt, String lastError, LocalDateTime completedAt);
+
+    /**
+     * Set the outcome of a job whose worker has been holding it since before the given time,
+     * unless the worker finished it in the meantime
+     * @return 1 if updated
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DocumentProcessingJob j SET j.status = :status, j.lockedAt = null, j.lastError = :lastError " +
+           "WHERE j.id = :id AND j.status = :processing AND j.lockedAt < :lockedBefore")
+    int finishStale(Long id, LocalDateTime lockedBefore, ProcessingStatus status, String lastError, ProcessingStatus processing);
+}
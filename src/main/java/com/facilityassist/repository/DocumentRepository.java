@@ -1,12 +1,18 @@
 package com.facilityassist.repository;
 
+import com.facilityassist.model.ContentStorage;
 import com.facilityassist.model.Document;
-import org.springframework.data.domain.Page;
+import com.facilityassist.model.ProcessingStatus;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,16 +20,17 @@ import java.util.Optional;
 public interface DocumentRepository extends JpaRepository<Document, Long> {
     
     /**
-     * Find all active documents ordered by upload date descending
+     * Find the latest versions of all active documents ordered by upload date descending, with their uploaders
      */
-    @Query("SELECT d FROM Document d WHERE d.isActive = true ORDER BY d.uploadedAt DESC")
+    @Query("SELECT d FROM Document d JOIN FETCH d.uploadedBy WHERE d.isActive = true AND d.latestVersion = true ORDER BY d.uploadedAt DESC")
     List<Document> findAllActiveOrderByUploadedAtDesc();
     
     /**
-     * Find all active documents with pagination ordered by upload date descending
+     * Find a slice of the latest versions of active documents ordered by upload date descending, with their uploaders.
+     * Totals come from StatisticsService rather than a count query.
      */
-    @Query("SELECT d FROM Document d WHERE d.isActive = true ORDER BY d.uploadedAt DESC")
-    Page<Document> findAllActiveOrderByUploadedAtDesc(Pageable pageable);
+    @Query("SELECT d FROM Document d JOIN FETCH d.uploadedBy WHERE d.isActive = true AND d.latestVersion = true ORDER BY d.uploadedAt DESC")
+    Slice<Document> findAllActiveOrderByUploadedAtDesc(Pageable pageable);
     
     /**
      * Find active document by ID
@@ -38,8 +45,234 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
     List<Document> findByUploaderIdAndIsActiveTrue(Long uploaderId);
     
     /**
-     * Count active documents
+     * Count active documents, one per version history
      */
-    @Query("SELECT COUNT(d) FROM Document d WHERE d.isActive = true")
+    @Query("SELECT COUNT(d) FROM Document d WHERE d.isActive = true AND d.latestVersion = true")
     long countActiveDocuments();
+    
+    /**
+     * Count the latest versions of active documents and their total size per uploader
+     */
+    @Query("SELECT d.uploadedBy.id AS groupId, COUNT(d) AS rowCount, SUM(d.fileSize) AS totalBytes " +
+           "FROM Document d WHERE d.isActive = true AND d.latestVersion = true GROUP BY d.uploadedBy.id")
+    List<GroupTotal> sumActiveByUploader();
+    
+    /**
+     * Count the latest versions of active documents and their total size per unit of the uploader; uploaders without a unit are grouped under null
+     */
+    @Query("SELECT u.id AS groupId, COUNT(d) AS rowCount, SUM(d.fileSize) AS totalBytes " +
+           "FROM Document d JOIN d.uploadedBy w LEFT JOIN w.unit u WHERE d.isActive = true AND d.latestVersion = true GROUP BY u.id")
+    List<GroupTotal> sumActiveByUploaderUnit();
+
+    /**
+     * Find which of the given document IDs are active
+     */
+    @Query("SELECT d.id FROM Document d WHERE d.id IN :ids AND d.isActive = true")
+    List<Long> findActiveIdsIn(Collection<Long> ids);
+
+    /**
+     * Find which of the given document IDs have been replaced by a newer version
+     */
+    @Query("SELECT d.id FROM Document d WHERE d.id IN :ids AND d.latestVersion = false")
+    List<Long> findSupersededIdsIn(Collection<Long> ids);
+    
+    /**
+     * Get the count and latest modification time of the latest versions of active documents.
+     * Every update of a listed field bumps modifiedAt, so the ETag changes with it.
+     */
+    @Query("SELECT COUNT(d) AS rowCount, MAX(d.modifiedAt) AS lastModified FROM Document d WHERE d.isActive = true AND d.latestVersion = true")
+    ListVersion findActiveListVersion();
+    
+    /**
+     * Find the file metadata of an active document without loading its content
+     */
+    @Query("SELECT d.id AS id, d.title AS title, d.fileName AS fileName, d.fileType AS fileType, d.fileSize AS fileSize " +
+           "FROM Document d WHERE d.id = :id AND d.isActive = true")
+    Optional<DocumentFileInfo> findFileInfoById(Long id);
+    
+    /**
+     * Find the file metadata of the active documents among the given IDs without loading their content
+     */
+    @Query("SELECT d.id AS id, d.title AS title, d.fileName AS fileName, d.fileType AS fileType, d.fileSize AS fileSize " +
+           "FROM Document d WHERE d.id IN :ids AND d.isActive = true")
+    List<DocumentFileInfo> findFileInfoByIdIn(Collection<Long> ids);
+    
+    /**
+     * Find the file metadata of a document whose upload has not been activated yet
+     */
+    @Query("SELECT d.id AS id, d.title AS title, d.fileName AS fileName, d.fileType AS fileType, d.fileSize AS fileSize " +
+           "FROM Document d WHERE d.id = :id AND d.isActive = false")
+    Optional<DocumentFileInfo> findPendingFileInfoById(Long id);
+    
+    /**
+     * Activate a pending upload once its content has been stored, without touching the content
+     */
+    @Modifying
+    @Query("UPDATE Document d SET d.title = :title, d.description = :description, d.fileSize = :fileSize, " +
+           "d.checksum = :checksum, d.uploadedAt = :uploadedAt, d.modifiedAt = :uploadedAt, d.isActive = true " +
+           "WHERE d.id = :id AND d.isActive = false")
+    int activate(Long id, String title, String description, Long fileSize, String checksum, LocalDateTime uploadedAt);
+    
+    /**
+     * Find what is needed to look up the preview of an active document
+     */
+    @Query("SELECT d.id AS id, d.fileType AS fileType, d.checksum AS checksum, d.processingStatus AS processingStatus " +
+           "FROM Document d WHERE d.id = :id AND d.isActive = true")
+    Optional<DocumentPreviewInfo> findPreviewInfoById(Long id);
+    
+    /**
+     * Find the recorded checksum of a document
+     * @return the checksum, or empty if the document does not exist or has none
+     */
+    @Query("SELECT d.checksum FROM Document d WHERE d.id = :id")
+    Optional<String> findChecksumById(Long id);
+    
+    /**
+     * Number a newly activated document as a later version of another
+     */
+    @Modifying
+    @Query("UPDATE Document d SET d.parentDocumentId = :parentDocumentId, d.versionNumber = :versionNumber WHERE d.id = :id")
+    int assignVersion(Long id, Long parentDocumentId, Integer versionNumber);
+    
+    /**
+     * Mark a version as no longer the latest
+     * @return 0 if another upload superseded it first
+     */
+    @Modifying
+    @Query("UPDATE Document d SET d.latestVersion = false, d.modifiedAt = local datetime WHERE d.id = :id AND d.latestVersion = true")
+    int supersede(Long id);
+    
+    /**
+     * Find the version metadata of an active document
+     */
+    @Query("SELECT d.id AS id, d.parentDocumentId AS parentDocumentId, d.versionNumber AS versionNumber, " +
+           "d.latestVersion AS latestVersion, d.title AS title, d.description AS description, d.fileSize AS fileSize, " +
+           "d.storageType AS storageType, d.deltaDepth AS deltaDepth, d.processingStatus AS processingStatus, " +
+           "w.id AS uploaderId, u.id AS unitId " +
+           "FROM Document d JOIN d.uploadedBy w LEFT JOIN w.unit u WHERE d.id = :id AND d.isActive = true")
+    Optional<DocumentVersionInfo> findVersionInfoById(Long id);
+    
+    /**
+     * Find the version metadata of the latest version of a document
+     * @param rootId ID of the first version
+     */
+    @Query("SELECT d.id AS id, d.parentDocumentId AS parentDocumentId, d.versionNumber AS versionNumber, " +
+           "d.latestVersion AS latestVersion, d.title AS title, d.description AS description, d.fileSize AS fileSize, " +
+           "d.storageType AS storageType, d.deltaDepth AS deltaDepth, d.processingStatus AS processingStatus, " +
+           "w.id AS uploaderId, u.id AS unitId " +
+           "FROM Document d JOIN d.uploadedBy w LEFT JOIN w.unit u " +
+           "WHERE (d.id = :rootId OR d.parentDocumentId = :rootId) AND d.latestVersion = true AND d.isActive = true")
+    Optional<DocumentVersionInfo> findLatestVersionInfo(Long rootId);
+    
+    /**
+     * Find the version metadata of a given version of a document
+     * @param rootId ID of the first version
+     * @param versionNumber version number
+     */
+    @Query("SELECT d.id AS id, d.parentDocumentId AS parentDocumentId, d.versionNumber AS versionNumber, " +
+           "d.latestVersion AS latestVersion, d.title AS title, d.description AS description, d.fileSize AS fileSize, " +
+           "d.storageType AS storageType, d.deltaDepth AS deltaDepth, d.processingStatus AS processingStatus, " +
+           "w.id AS uploaderId, u.id AS unitId " +
+           "FROM Document d JOIN d.uploadedBy w LEFT JOIN w.unit u " +
+           "WHERE (d.id = :rootId OR d.parentDocumentId = :rootId) AND d.versionNumber = :versionNumber AND d.isActive = true")
+    Optional<DocumentVersionInfo> findVersionInfo(Long rootId, Integer versionNumber);
+    
+    /**
+     * Find every version of a document, newest first
+     * @param rootId ID of the first version
+     */
+    @Query("SELECT d.id AS id, d.versionNumber AS versionNumber, d.title AS title, d.fileName AS fileName, " +
+           "d.fileType AS fileType, d.fileSize AS fileSize, d.storedSize AS storedSize, d.storageType AS storageType, " +
+           "d.checksum AS checksum, d.latestVersion AS latestVersion, w.name AS uploaderName, d.uploadedAt AS uploadedAt " +
+           "FROM Document d JOIN d.uploadedBy w " +
+           "WHERE (d.id = :rootId OR d.parentDocumentId = :rootId) AND d.isActive = true ORDER BY d.versionNumber DESC")
+    List<DocumentVersionRow> findVersions(Long rootId);
+    
+    /**
+     * Set the post-upload processing state of a document
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Document d SET d.processingStatus = :status, d.modifiedAt = local datetime WHERE d.id = :id")
+    int updateProcessingStatus(Long id, ProcessingStatus status);
+    
+    /**
+     * Replace the content type of a document, e.g. with the one detected from its content
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Document d SET d.fileType = :fileType, d.modifiedAt = local datetime WHERE d.id = :id")
+    int updateFileType(Long id, String fileType);
+    
+    /**
+     * Set the checksum of a document that was stored without one
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Document d SET d.checksum = :checksum, d.modifiedAt = local datetime WHERE d.id = :id AND d.checksum IS NULL")
+    int updateChecksum(Long id, String checksum);
+    
+    /**
+     * Projection of the file metadata of a document
+     */
+    interface DocumentFileInfo {
+        Long getId();
+        String getTitle();
+        String getFileName();
+        String getFileType();
+        Long getFileSize();
+    }
+    
+    /**
+     * Projection of the preview lookup columns of a document
+     */
+    interface DocumentPreviewInfo {
+        Long getId();
+        String getFileType();
+        String getChecksum();
+        ProcessingStatus getProcessingStatus();
+    }
+    
+    /**
+     * Projection of the version metadata of a document
+     */
+    interface DocumentVersionInfo {
+        Long getId();
+        Long getParentDocumentId();
+        Integer getVersionNumber();
+        Boolean getLatestVersion();
+        String getTitle();
+        String getDescription();
+        Long getFileSize();
+        ContentStorage getStorageType();
+        Integer getDeltaDepth();
+        ProcessingStatus getProcessingStatus();
+        Long getUploaderId();
+        Long getUnitId();
+        
+        /**
+         * @return ID of the first version of the document
+         */
+        default Long getRootId() {
+            return getParentDocumentId() != null ? getParentDocumentId() : getId();
+        }
+    }
+    
+    /**
+     * Projection of the columns of a version list entry
+     */
+    interface DocumentVersionRow {
+        Long getId();
+        Integer getVersionNumber();
+        String getTitle();
+        String getFileName();
+        String getFileType();
+        Long getFileSize();
+        Long getStoredSize();
+        ContentStorage getStorageType();
+        String getChecksum();
+        Boolean getLatestVersion();
+        String getUploaderName();
+        LocalDateTime getUploadedAt();
+    }
 }
@@ -0,0 +1,150 @@
+package com.facilityassist.repository;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Clob;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Forward-only row cursors for bulk exports.
+ *
+ * Rows are handed to the consumer one at a time as the driver fetches them, so nothing is
+ * collected in a list or attached to a persistence context. Exports and the streamed NDJSON
+ * lists can run for as long as the client takes to read them, so they go through the blob
+ * connection pool like downloads do, without a transaction, and never hold a main pool
+ * connection.
+ */
+@Repository
+public class ExportRepository {
+
+    public static final List<String> NOTICE_COLUMNS = List.of(
+        "ID", "제목", "내용", "작성자 아이디", "작성자", "부대", "작성일시");
+
+    public static final List<String> DOCUMENT_COLUMNS = List.of(
+        "ID", "제목", "설명", "파일명", "파일 형식", "파일 크기", "업로더 아이디", "업로더", "업로드일시");
+
+    public static final List<String> ASSIGNMENT_COLUMNS = List.of(
+        "작업 ID", "시작일", "종료일", "작업 내용", "부대 코드", "부대", "배정일시");
+
+    /**
+     * Summary columns of a notice
+     */
+    public record NoticeSummaryRow(Long id, String title, String authorName, LocalDateTime createdAt) {
+    }
+
+    /**
+     * Summary columns of a document
+     */
+    public record DocumentSummaryRow(Long id, String title, String description, String fileName, String fileType,
+                                     Long fileSize, String uploaderName, LocalDateTime uploadedAt) {
+    }
+
+    private final JdbcTemplate blobJdbcTemplate;
+
+    @Value("${facility.export.fetch-size:500}")
+    private int fetchSize;
+
+    public ExportRepository(@Qualifier("blobJdbcTemplate") JdbcTemplate blobJdbcTemplate) {
+        this.blobJdbcTemplate = blobJdbcTemplate;
+    }
+
+    /**
+     * Stream all notices, newest first, as rows matching NOTICE_COLUMNS
+     */
+    public void streamNotices(Consumer<Object[]> rowConsumer) {
+        stream("SELECT n.id, n.title, n.content, u.username, u.name, un.name, n.created_at " +
+               "FROM NOTICES n JOIN USERS u ON u.id = n.written_by LEFT JOIN UNIT un ON un.id = u.unit_id " +
+               "ORDER BY n.created_at DESC", NOTICE_COLUMNS.size(), rowConsumer);
+    }
+
+    /**
+     * Stream the metadata of all active documents, newest first, as rows matching DOCUMENT_COLUMNS
+     */
+    public void streamDocuments(Consumer<Object[]> rowConsumer) {
+        stream("SELECT d.id, d.title, d.description, d.file_name, d.file_type, d.file_size, u.username, u.name, d.uploaded_at " +
+               "FROM DOCUMENTS d JOIN USERS u ON u.id = d.uploaded_by WHERE d.is_active = TRUE " +
+               "ORDER BY d.uploaded_at DESC", DOCUMENT_COLUMNS.size(), rowConsumer);
+    }
+
+    /**
+     * Stream the summary columns of all notices, newest first
+     */
+    public void streamNoticeSummaries(Consumer<NoticeSummaryRow> rowConsumer) {
+        stream("SELECT n.id, n.title, u.name, n.created_at " +
+               "FROM NOTICES n JOIN USERS u ON u.id = n.written_by ORDER BY n.created_at DESC",
+            rs -> new NoticeSummaryRow(rs.getLong(1), rs.getString(2), rs.getString(3), toLocalDateTime(rs.getTimestamp(4))),
+            rowConsumer);
+    }
+
+    /**
+     * Stream the summary columns of the latest versions of all active documents, newest first
+     */
+    public void streamDocumentSummaries(Consumer<DocumentSummaryRow> rowConsumer) {
+        stream("SELECT d.id, d.title, d.description, d.file_name, d.file_type, d.file_size, u.name, d.uploaded_at " +
+               "FROM DOCUMENTS d JOIN USERS u ON u.id = d.uploaded_by WHERE d.is_active = TRUE AND d.latest_version = TRUE " +
+               "ORDER BY d.uploaded_at DESC",
+            rs -> new DocumentSummaryRow(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                rs.getString(5), rs.getLong(6), rs.getString(7), toLocalDateTime(rs.getTimestamp(8))),
+            rowConsumer);
+    }
+
+    /**
+     * Stream every task-to-unit assignment, ordered by task, as rows matching ASSIGNMENT_COLUMNS
+     */
+    public void streamAssignments(Consumer<Object[]> rowConsumer) {
+        stream("SELECT t.id, t.start_date, t.end_date, t.info, un.code, un.name, a.assigned_at " +
+               "FROM ASSIGNMENT a JOIN FACILITY_TASK t ON t.id = a.facility_task_id JOIN UNIT un ON un.id = a.unit_id " +
+               "ORDER BY t.id, un.code", ASSIGNMENT_COLUMNS.size(), rowConsumer);
+    }
+
+    private void stream(String sql, int columns, Consumer<Object[]> rowConsumer) {
+        stream(sql, rs -> {
+            Object[] row = new Object[columns];
+            for (int i = 0; i < columns; i++) {
+                row[i] = readValue(rs, i + 1);
+            }
+            return row;
+        }, rowConsumer);
+    }
+
+    private <T> void stream(String sql, RowReader<T> rowReader, Consumer<T> rowConsumer) {
+        blobJdbcTemplate.query(
+            connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            },
+            (RowCallbackHandler) rs -> rowConsumer.accept(rowReader.read(rs)));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    @FunctionalInterface
+    private interface RowReader<T> {
+        T read(ResultSet rs) throws SQLException;
+    }
+
+    private static Object readValue(ResultSet rs, int column) throws SQLException {
+        Object value = rs.getObject(column);
+        if (value instanceof Clob) {
+            return rs.getString(column);
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return value;
+    }
+}
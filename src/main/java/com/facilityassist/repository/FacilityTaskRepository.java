@@ -0,0 +1,29 @@
+package com.facilityassist.repository;
+
+import com.facilityassist.model.FacilityTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface FacilityTaskRepository extends JpaRepository<FacilityTask, Long> {
+
+    /**
+     * Find the deadlines of tasks ending after the given time, in deadline order.
+     * Served from the end_date index without loading the task entities.
+     */
+    @Query("SELECT t.id AS id, t.endDate AS endDate FROM FacilityTask t WHERE t.endDate > :from ORDER BY t.endDate")
+    List<TaskDeadline> findDeadlinesAfter(@Param("from") LocalDateTime from);
+
+    /**
+     * Projection of a task ID and its deadline
+     */
+    interface TaskDeadline {
+        Long getId();
+        LocalDateTime getEndDate();
+    }
+}
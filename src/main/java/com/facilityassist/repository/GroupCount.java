@@ -0,0 +1,11 @@
+package com.facilityassist.repository;
+
+/**
+ * Projection of a grouped count: the group (a unit or user ID) and its row count
+ */
+public interface GroupCount {
+
+    Long getGroupId();
+
+    Long getRowCount();
+}
@@ -0,0 +1,9 @@
+package com.facilityassist.repository;
+
+/**
+ * Projection of a grouped count that also sums a size in bytes
+ */
+public interface GroupTotal extends GroupCount {
+
+    Long getTotalBytes();
+}
@@ -0,0 +1,24 @@
+package com.facilityassist.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a cheap version stamp for a list: its row count and latest timestamp.
+ * Any insert or removal changes at least one of the two.
+ */
+public interface ListVersion {
+
+    Long getRowCount();
+
+    LocalDateTime getLastModified();
+
+    /**
+     * Build a weak ETag from the version stamp
+     * @param name list name, keeps the tags of different lists apart
+     * @return weak ETag, e.g. W/"notices-25-2025-01-01T09:00"
+     */
+    default String toWeakETag(String name) {
+        LocalDateTime lastModified = getLastModified();
+        return "W/\"" + name + "-" + getRowCount() + "-" + (lastModified != null ? lastModified : "0") + "\"";
+    }
+}
@@ -0,0 +1,9 @@
+package com.facilityassist.repository;
+
+import com.facilityassist.model.NoticeReadState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NoticeReadStateRepository extends JpaRepository<NoticeReadState, Long>, NoticeReadStateWriter {
+}
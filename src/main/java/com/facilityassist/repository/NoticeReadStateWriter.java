@@ -0,0 +1,17 @@
+package com.facilityassist.repository;
+
+import com.facilityassist.model.NoticeReadState;
+
+import java.util.List;
+
+/**
+ * Bulk write of notice read states, implemented with plain JDBC by NoticeReadStateWriterImpl
+ */
+public interface NoticeReadStateWriter {
+
+    /**
+     * Insert or replace the given read states in one batch
+     * @param states read states keyed by notice ID
+     */
+    void upsertAll(List<NoticeReadState> states);
+}
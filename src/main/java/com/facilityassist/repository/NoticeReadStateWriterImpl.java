@@ -0,0 +1,36 @@
+package com.facilityassist.repository;
+
+import com.facilityassist.model.NoticeReadState;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * The notice ID is assigned, not generated, so save() on the JPA repository merges and reads
+ * every row before writing it. A batched MERGE writes each changed notice in one statement.
+ */
+public class NoticeReadStateWriterImpl implements NoticeReadStateWriter {
+
+    private static final String UPSERT_SQL =
+        "MERGE INTO NOTICE_READ_STATE (notice_id, reader_bitmap, read_count, updated_at) KEY (notice_id) " +
+        "VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NoticeReadStateWriterImpl(@Qualifier("dataSource") DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void upsertAll(List<NoticeReadState> states) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, states, states.size(), (statement, state) -> {
+            statement.setLong(1, state.getNoticeId());
+            statement.setBytes(2, state.getReaderBitmap());
+            statement.setInt(3, state.getReadCount());
+            statement.setTimestamp(4, Timestamp.valueOf(state.getUpdatedAt()));
+        });
+    }
+}
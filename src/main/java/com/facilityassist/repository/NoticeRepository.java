@@ -1,29 +1,31 @@
 package com.facilityassist.repository;
 
 import com.facilityassist.model.Notice;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
     
     /**
-     * Find all notices ordered by creation date (newest first)
+     * Find all notices ordered by creation date (newest first), with their authors
      */
-    @Query("SELECT n FROM Notice n ORDER BY n.createdAt DESC")
+    @Query("SELECT n FROM Notice n JOIN FETCH n.writtenBy ORDER BY n.createdAt DESC")
     List<Notice> findAllOrderByCreatedAtDesc();
     
     /**
-     * Find notices with pagination, ordered by creation date (newest first)
+     * Find a slice of notices, ordered by creation date (newest first), with their authors.
+     * Totals come from StatisticsService rather than a count query.
      */
-    @Query("SELECT n FROM Notice n ORDER BY n.createdAt DESC")
-    Page<Notice> findAllOrderByCreatedAtDesc(Pageable pageable);
+    @Query("SELECT n FROM Notice n JOIN FETCH n.writtenBy ORDER BY n.createdAt DESC")
+    Slice<Notice> findAllOrderByCreatedAtDesc(Pageable pageable);
     
     /**
      * Find recent notices (last N notices)
@@ -41,4 +43,33 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
      */
     @Query("SELECT n FROM Notice n WHERE n.title LIKE %:searchText% OR n.content LIKE %:searchText% ORDER BY n.createdAt DESC")
     List<Notice> findByTitleContainingOrContentContainingOrderByCreatedAtDesc(@Param("searchText") String searchText);
+    
+    /**
+     * Get the count and latest creation time of all notices
+     */
+    @Query("SELECT COUNT(n) AS rowCount, MAX(n.createdAt) AS lastModified FROM Notice n")
+    ListVersion findListVersion();
+    
+    /**
+     * Check whether any notice exists, without counting them
+     */
+    boolean existsByIdIsNotNull();
+    
+    /**
+     * Count notices per unit of their author; notices by authors without a unit are grouped under null
+     */
+    @Query("SELECT u.id AS groupId, COUNT(n) AS rowCount FROM Notice n JOIN n.writtenBy w LEFT JOIN w.unit u GROUP BY u.id")
+    List<GroupCount> countByAuthorUnit();
+
+    /**
+     * Find which of the given notice IDs exist
+     */
+    @Query("SELECT n.id FROM Notice n WHERE n.id IN :ids")
+    List<Long> findIdsIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Find the IDs of all notices
+     */
+    @Query("SELECT n.id FROM Notice n")
+    List<Long> findAllIds();
 }
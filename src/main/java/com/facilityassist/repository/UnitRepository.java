@@ -1,15 +1,42 @@
 package com.facilityassist.repository;
 
 import com.facilityassist.model.Unit;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
 public interface UnitRepository extends JpaRepository<Unit, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Unit> findByName(String name);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Unit> findByCode(String code);
+
     boolean existsByName(String name);
     boolean existsByCode(String code);
+
+    /**
+     * Find a page of units ordered by name, selecting only the listed columns
+     */
+    @Query("SELECT u.id AS id, u.name AS name, u.code AS code, u.createdAt AS createdAt FROM Unit u ORDER BY u.name")
+    Slice<UnitSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * Projection of a unit for list views
+     */
+    interface UnitSummary {
+        Long getId();
+        String getName();
+        String getCode();
+        LocalDateTime getCreatedAt();
+    }
 }
@@ -2,7 +2,14 @@ package com.facilityassist.repository;
 
 import com.facilityassist.model.User;
 import com.facilityassist.model.UserRole;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,8 +17,50 @@ import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    // Cached: every login and /api/users/me resolves the user by name
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
+
     boolean existsByUsername(String username);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<User> findByRole(UserRole role);
+
+    long countByRole(UserRole role);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<User> findByUnitId(Long unitId);
+
+    @Query("SELECT u.id FROM User u WHERE u.role = com.facilityassist.model.UserRole.MANAGER " +
+           "AND u.unit.id IN (SELECT a.unit.id FROM Assignment a WHERE a.facilityTask.id = :taskId)")
+    List<Long> findManagerIdsByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Find a page of users with their unit, selecting only the listed columns
+     */
+    @Query("SELECT u.id AS id, u.username AS username, u.name AS name, u.role AS role, " +
+           "un.id AS unitId, un.name AS unitName, un.code AS unitCode " +
+           "FROM User u LEFT JOIN u.unit un ORDER BY u.id")
+    Slice<UserSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * Find a page of users with the given role and their unit, selecting only the listed columns
+     */
+    @Query("SELECT u.id AS id, u.username AS username, u.name AS name, u.role AS role, " +
+           "un.id AS unitId, un.name AS unitName, un.code AS unitCode " +
+           "FROM User u LEFT JOIN u.unit un WHERE u.role = :role ORDER BY u.id")
+    Slice<UserSummary> findSummariesByRole(@Param("role") UserRole role, Pageable pageable);
+
+    /**
+     * Projection of a user and its unit for list views
+     */
+    interface UserSummary {
+        Long getId();
+        String getUsername();
+        String getName();
+        UserRole getRole();
+        Long getUnitId();
+        String getUnitName();
+        String getUnitCode();
+    }
 }
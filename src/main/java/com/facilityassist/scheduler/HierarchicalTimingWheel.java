@@ -0,0 +1,103 @@
+package com.facilityassist.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel.
+ *
+ * Level 0 covers {@code tickMs * wheelSize} milliseconds; every further level is created lazily
+ * and covers {@code wheelSize} times the span of the level below it. Advancing the clock by one
+ * tick touches a single bucket per level, so the cost per tick does not depend on how many
+ * timers are pending. Entries in an overflow level are cascaded down when their bucket comes due.
+ * Items expire on the tick whose span contains their expiration time, so at most one tick early.
+ *
+ * This class is not thread-safe; callers are expected to guard it with a single lock.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long interval;
+    private final ArrayDeque<Entry<T>>[] buckets;
+    private long currentTime;
+    private HierarchicalTimingWheel<T> overflowWheel;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tickMs must be positive and wheelSize greater than 1");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.interval = tickMs * wheelSize;
+        this.buckets = new ArrayDeque[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.currentTime = startMs - (startMs % tickMs);
+    }
+
+    /**
+     * Add an item that should expire at the given time
+     * @param item item to hold
+     * @param expirationMs expiration time in epoch milliseconds
+     * @return false if the item is already due and was not added
+     */
+    public boolean add(T item, long expirationMs) {
+        if (expirationMs < currentTime + tickMs) {
+            return false;
+        }
+        if (expirationMs < currentTime + interval) {
+            int index = (int) ((expirationMs / tickMs) % wheelSize);
+            buckets[index].add(new Entry<>(item, expirationMs));
+            return true;
+        }
+        if (overflowWheel == null) {
+            overflowWheel = new HierarchicalTimingWheel<>(interval, wheelSize, currentTime);
+        }
+        return overflowWheel.add(item, expirationMs);
+    }
+
+    /**
+     * Advance the clock tick by tick up to the given time, handing every expired item to the sink
+     * @param nowMs current time in epoch milliseconds
+     * @param sink receiver for expired items
+     */
+    public void advanceClock(long nowMs, Consumer<T> sink) {
+        while (nowMs >= currentTime + tickMs) {
+            currentTime += tickMs;
+            if (overflowWheel != null && currentTime % overflowWheel.tickMs == 0) {
+                overflowWheel.cascade(currentTime, this, sink);
+            }
+            drain(buckets[(int) ((currentTime / tickMs) % wheelSize)], this, sink);
+        }
+    }
+
+    /**
+     * Current time of the lowest level, rounded down to the tick
+     */
+    public long getCurrentTime() {
+        return currentTime;
+    }
+
+    private void cascade(long time, HierarchicalTimingWheel<T> root, Consumer<T> sink) {
+        currentTime = time;
+        if (overflowWheel != null && time % overflowWheel.tickMs == 0) {
+            overflowWheel.cascade(time, root, sink);
+        }
+        drain(buckets[(int) ((time / tickMs) % wheelSize)], root, sink);
+    }
+
+    private static <T> void drain(ArrayDeque<Entry<T>> bucket, HierarchicalTimingWheel<T> root, Consumer<T> sink) {
+        Entry<T> entry;
+        while ((entry = bucket.poll()) != null) {
+            if (!root.add(entry.item(), entry.expirationMs())) {
+                sink.accept(entry.item());
+            }
+        }
+    }
+
+    private record Entry<T>(T item, long expirationMs) {
+    }
+}
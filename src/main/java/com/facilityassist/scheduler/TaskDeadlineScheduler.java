@@ -0,0 +1,172 @@
+package com.facilityassist.scheduler;
+
+import com.facilityassist.event.FacilityTaskChangedEvent;
+import com.facilityassist.event.TaskDeadlineEvent;
+import com.facilityassist.repository.FacilityTaskRepository;
+import com.facilityassist.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process scheduler for facility task deadlines.
+ *
+ * Every open task has at most two timers (due soon and overdue) in a hierarchical timing wheel
+ * that is advanced by a fixed-rate tick. Rescheduling a task bumps its generation, so timers
+ * left behind by an earlier deadline are dropped when they expire instead of being searched for.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskDeadlineScheduler {
+
+    private final FacilityTaskRepository facilityTaskRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${facility.deadline.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${facility.deadline.wheel-size:512}")
+    private int wheelSize;
+
+    @Value("${facility.deadline.due-soon-lead:24h}")
+    private Duration dueSoonLead;
+
+    private final ZoneId zoneId = ZoneId.systemDefault();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Guarded by lock
+    private final Map<Long, Long> generations = new HashMap<>();
+    private long generationSequence;
+    private HierarchicalTimingWheel<DeadlineTimer> wheel;
+
+    @PostConstruct
+    void init() {
+        wheel = new HierarchicalTimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * Load the deadlines of all open tasks once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        List<FacilityTaskRepository.TaskDeadline> deadlines = facilityTaskRepository.findDeadlinesAfter(now);
+        for (FacilityTaskRepository.TaskDeadline deadline : deadlines) {
+            schedule(deadline.getId(), deadline.getEndDate(), false);
+        }
+        log.info("Loaded {} task deadlines into the deadline scheduler", deadlines.size());
+    }
+
+    /**
+     * Reschedule a task once the transaction that changed it has committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskChanged(FacilityTaskChangedEvent event) {
+        schedule(event.taskId(), event.endDate(), true);
+    }
+
+    /**
+     * Schedule (or reschedule) the deadline timers of a task
+     * @param taskId facility task ID
+     * @param endDate task deadline, or null to cancel the timers
+     * @param notifyImmediately whether to fire timers that are already due instead of skipping them
+     */
+    public void schedule(Long taskId, LocalDateTime endDate, boolean notifyImmediately) {
+        List<DeadlineTimer> due = new ArrayList<>();
+        lock.lock();
+        try {
+            if (endDate == null) {
+                generations.remove(taskId);
+                return;
+            }
+            long generation = ++generationSequence;
+            generations.put(taskId, generation);
+
+            long endMs = endDate.atZone(zoneId).toInstant().toEpochMilli();
+            DeadlineTimer dueSoon = new DeadlineTimer(taskId, generation, TaskDeadlineEvent.Type.DUE_SOON, endDate);
+            DeadlineTimer overdue = new DeadlineTimer(taskId, generation, TaskDeadlineEvent.Type.OVERDUE, endDate);
+
+            if (!wheel.add(dueSoon, endMs - dueSoonLead.toMillis()) && notifyImmediately && endMs > wheel.getCurrentTime()) {
+                due.add(dueSoon);
+            }
+            if (!wheel.add(overdue, endMs)) {
+                generations.remove(taskId);
+                if (notifyImmediately) {
+                    due.add(overdue);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        due.forEach(this::publish);
+    }
+
+    /**
+     * Advance the wheel and publish the timers that expired
+     */
+    @Scheduled(fixedRateString = "${facility.deadline.tick-ms:1000}")
+    public void tick() {
+        List<DeadlineTimer> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            wheel.advanceClock(System.currentTimeMillis(), timer -> {
+                Long current = generations.get(timer.taskId());
+                if (current == null || current != timer.generation()) {
+                    return;
+                }
+                if (timer.type() == TaskDeadlineEvent.Type.OVERDUE) {
+                    generations.remove(timer.taskId());
+                }
+                expired.add(timer);
+            });
+        } finally {
+            lock.unlock();
+        }
+        expired.forEach(this::publish);
+    }
+
+    /**
+     * Number of tasks that still have a pending timer
+     */
+    public int getScheduledTaskCount() {
+        lock.lock();
+        try {
+            return generations.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void publish(DeadlineTimer timer) {
+        try {
+            List<Long> managerIds = userRepository.findManagerIdsByTaskId(timer.taskId());
+            log.info("Task {} is {} (deadline: {}), notifying {} managers", timer.taskId(), timer.type(),
+                timer.endDate(), managerIds.size());
+            eventPublisher.publishEvent(new TaskDeadlineEvent(timer.taskId(), timer.type(), timer.endDate(), managerIds));
+        } catch (Exception e) {
+            log.error("Error publishing deadline event for task: {}", timer.taskId(), e);
+        }
+    }
+
+    private record DeadlineTimer(Long taskId, long generation, TaskDeadlineEvent.Type type, LocalDateTime endDate) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.facilityassist.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throttles login attempts per username and per client IP before any user lookup or
+ * password hashing happens.
+ *
+ * Each key owns a token bucket held in a single AtomicLong as its theoretical arrival time
+ * (GCRA): an attempt conforms while the arrival time is at most (capacity - 1) refill periods
+ * ahead of now, and each accepted attempt pushes it one period further. Updates are a CAS
+ * loop, so concurrent attempts never block each other.
+ *
+ * Buckets that have refilled completely carry no state and are evicted periodically. Each map
+ * is bounded; when a new key finds it full, the buckets holding the least debt (earliest arrival
+ * time) are evicted to make room. A username spray leaves many buckets with a single attempt,
+ * which go first, while the bucket of a username being guessed against is kept. New keys always
+ * get a bucket of their own, so filling the map cannot throttle other users.
+ */
+@Component
+@Slf4j
+public class LoginRateLimiter {
+
+    private final boolean enabled;
+    private final Limiter usernameLimiter;
+    private final Limiter ipLimiter;
+
+    public LoginRateLimiter(@Value("${facility.login-rate-limit.enabled:true}") boolean enabled,
+                            @Value("${facility.login-rate-limit.username.capacity:5}") int usernameCapacity,
+                            @Value("${facility.login-rate-limit.username.refill-period:12s}") Duration usernameRefillPeriod,
+                            @Value("${facility.login-rate-limit.ip.capacity:20}") int ipCapacity,
+                            @Value("${facility.login-rate-limit.ip.refill-period:3s}") Duration ipRefillPeriod,
+                            @Value("${facility.login-rate-limit.max-keys:100000}") int maxKeys) {
+        this.enabled = enabled;
+        this.usernameLimiter = new Limiter(usernameCapacity, usernameRefillPeriod, maxKeys);
+        this.ipLimiter = new Limiter(ipCapacity, ipRefillPeriod, maxKeys);
+    }
+
+    /**
+     * Take one login attempt from the buckets of a username and a client IP
+     * @param username attempted username
+     * @param ip client address
+     * @return 0 if the attempt may proceed, otherwise milliseconds until it would be allowed
+     */
+    public long tryAcquire(String username, String ip) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        long waitNanos = ipLimiter.tryAcquire(ip, now);
+        if (waitNanos == 0) {
+            waitNanos = usernameLimiter.tryAcquire(username.toLowerCase(Locale.ROOT), now);
+        }
+        return waitNanos == 0 ? 0 : Math.max(1, Duration.ofNanos(waitNanos).toMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${facility.login-rate-limit.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        int evicted = usernameLimiter.evictIdle(now) + ipLimiter.evictIdle(now);
+        if (evicted > 0) {
+            log.debug("Evicted {} idle login rate limit buckets", evicted);
+        }
+    }
+
+    public int getUsernameBucketCount() {
+        return usernameLimiter.buckets.size();
+    }
+
+    public int getIpBucketCount() {
+        return ipLimiter.buckets.size();
+    }
+
+    public long getUsernameRejectionCount() {
+        return usernameLimiter.rejections.get();
+    }
+
+    public long getIpRejectionCount() {
+        return ipLimiter.rejections.get();
+    }
+
+    private static class Limiter {
+
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final int maxKeys;
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong rejections = new AtomicLong();
+
+        Limiter(int capacity, Duration refillPeriod, int maxKeys) {
+            this.intervalNanos = refillPeriod.toNanos();
+            this.toleranceNanos = intervalNanos * (Math.max(1, capacity) - 1);
+            this.maxKeys = maxKeys;
+        }
+
+        long tryAcquire(String key, long now) {
+            AtomicLong bucket = buckets.get(key);
+            if (bucket == null) {
+                if (buckets.size() >= maxKeys) {
+                    makeRoom(now);
+                }
+                bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+            }
+            while (true) {
+                long arrival = bucket.get();
+                long start = Math.max(arrival, now);
+                if (start - now > toleranceNanos) {
+                    rejections.incrementAndGet();
+                    return start - now - toleranceNanos;
+                }
+                if (bucket.compareAndSet(arrival, start + intervalNanos)) {
+                    return 0;
+                }
+            }
+        }
+
+        /**
+         * Remove buckets that have refilled completely. An attempt racing with the removal of
+         * its bucket may be forgotten, which grants at most one extra attempt.
+         */
+        int evictIdle(long now) {
+            int before = buckets.size();
+            buckets.entrySet().removeIf(entry -> entry.getValue().get() - now <= 0);
+            return Math.max(0, before - buckets.size());
+        }
+
+        /**
+         * Evict idle buckets, then the tenth of the map holding the least debt, so the sort is
+         * paid once per maxKeys / 10 new keys rather than once per key. Concurrent inserts may
+         * overshoot maxKeys slightly.
+         */
+        private synchronized void makeRoom(long now) {
+            if (buckets.size() < maxKeys) {
+                return;
+            }
+            evictIdle(now);
+            int excess = buckets.size() - maxKeys + Math.max(1, maxKeys / 10);
+            if (excess <= 0) {
+                return;
+            }
+            long[] arrivals = buckets.values().stream().mapToLong(AtomicLong::get).sorted().toArray();
+            long cutoff = arrivals[Math.min(excess, arrivals.length) - 1];
+            buckets.values().removeIf(bucket -> bucket.get() <= cutoff);
+        }
+    }
+}
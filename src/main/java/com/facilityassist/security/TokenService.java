@@ -0,0 +1,137 @@
+package com.facilityassist.security;
+
+import com.facilityassist.model.UserRole;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Issues and verifies the signed access tokens that replace HTTP sessions.
+ *
+ * Tokens are compact HS256 JWTs carrying the {@link UserPrincipal} fields, so a request is
+ * authenticated from the token alone, without a session or a database lookup. All instances
+ * behind a load balancer must share facility.auth.token.secret; without one, a random key is
+ * generated and tokens stop verifying after a restart.
+ *
+ * Tokens cannot be revoked before they expire; logout only drops the client's copy.
+ */
+@Component
+@Slf4j
+public class TokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String HEADER = ENCODER.encodeToString(
+        "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final ObjectMapper objectMapper;
+    private final Mac prototype;
+    private final Duration ttl;
+
+    public TokenService(ObjectMapper objectMapper,
+                        @Value("${facility.auth.token.secret:}") String secret,
+                        @Value("${facility.auth.token.ttl:8h}") Duration ttl) throws GeneralSecurityException {
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+
+        byte[] key;
+        if (secret.isBlank()) {
+            log.warn("facility.auth.token.secret is not set; using a random key, tokens will not survive a restart");
+            key = new byte[32];
+            new SecureRandom().nextBytes(key);
+        } else {
+            key = Base64.getDecoder().decode(secret);
+        }
+        this.prototype = Mac.getInstance(ALGORITHM);
+        this.prototype.init(new SecretKeySpec(key, ALGORITHM));
+    }
+
+    /**
+     * Get how long an issued token stays valid
+     * @return token lifetime
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * Issue a token for an authenticated user
+     * @param principal the authenticated user
+     * @return compact signed token
+     */
+    public String issue(UserPrincipal principal) {
+        Instant now = Instant.now();
+        Claims claims = new Claims(
+            principal.getUsername(),
+            principal.getId(),
+            principal.getName(),
+            principal.getRole().name(),
+            principal.getUnitId(),
+            principal.getUnitName(),
+            now.getEpochSecond(),
+            now.plus(ttl).getEpochSecond());
+        try {
+            String content = HEADER + "." + ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+            return content + "." + ENCODER.encodeToString(sign(content));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to issue token", e);
+        }
+    }
+
+    /**
+     * Verify a token and rebuild the principal it was issued for
+     * @param token compact signed token
+     * @return the principal, or empty if the token is malformed, forged or expired
+     */
+    public Optional<UserPrincipal> verify(String token) {
+        int payloadStart = token.indexOf('.');
+        int signatureStart = token.lastIndexOf('.');
+        if (payloadStart < 0 || signatureStart <= payloadStart) {
+            return Optional.empty();
+        }
+        try {
+            String content = token.substring(0, signatureStart);
+            byte[] signature = DECODER.decode(token.substring(signatureStart + 1));
+            if (!MessageDigest.isEqual(sign(content), signature)) {
+                return Optional.empty();
+            }
+            Claims claims = objectMapper.readValue(DECODER.decode(token.substring(payloadStart + 1, signatureStart)), Claims.class);
+            if (Instant.now().getEpochSecond() >= claims.exp()) {
+                return Optional.empty();
+            }
+            UserRole role = UserRole.valueOf(claims.role());
+            List<GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+            return Optional.of(new UserPrincipal(
+                claims.uid(), claims.sub(), claims.name(), null, role, claims.unitId(), claims.unitName(), authorities));
+        } catch (Exception e) {
+            log.debug("Rejected token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String content) throws CloneNotSupportedException {
+        Mac mac = (Mac) prototype.clone();
+        return mac.doFinal(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record Claims(String sub, Long uid, String name, String role, Long unitId, String unitName,
+                          long iat, long exp) {
+    }
+}
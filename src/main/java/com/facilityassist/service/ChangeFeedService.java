@@ -0,0 +1,233 @@
+package com.facilityassist.service;
+
+import com.facilityassist.event.DocumentUploadedEvent;
+import com.facilityassist.event.NoticeCreatedEvent;
+import com.facilityassist.event.TaskDeadlineEvent;
+import com.facilityassist.security.UserPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service pushing change events to dashboards over server-sent events.
+ *
+ * Each event is serialized once and offered to every subscriber's bounded queue, and a sender
+ * thread drains a queue only while it has messages, so publishing never blocks on a socket and
+ * idle subscribers hold no thread. Writes to the servlet response block, so a write is never
+ * shared: a subscriber stuck in a write for longer than the write timeout, or whose queue is full,
+ * is disconnected without waiting for its write, and is expected to reconnect and refetch. The
+ * stuck write keeps its own sender thread until the container's socket timeout fails it.
+ */
+@Service
+@Slf4j
+public class ChangeFeedService {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong subscriberSequence = new AtomicLong();
+    private final AtomicLong droppedSubscribers = new AtomicLong();
+    private final ExecutorService senderPool;
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final long writeTimeoutNanos;
+
+    public ChangeFeedService(ObjectMapper objectMapper,
+                             @Value("${facility.change-feed.buffer-size:32}") int bufferSize,
+                             @Value("${facility.change-feed.timeout-ms:1800000}") long timeoutMs,
+                             @Value("${facility.change-feed.write-timeout-ms:10000}") long writeTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMs);
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Unbounded: a thread is only held by a subscriber with a write in progress
+        this.senderPool = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "change-feed-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Open a new subscription for the current user
+     * @return SseEmitter streaming change events
+     */
+    public SseEmitter subscribe() {
+        Long userId = null;
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal userPrincipal) {
+            userId = userPrincipal.getId();
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        register(userId, emitter);
+        return emitter;
+    }
+
+    void register(Long userId, SseEmitter emitter) {
+        long id = subscriberSequence.incrementAndGet();
+        Subscriber subscriber = new Subscriber(id, userId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(id));
+        emitter.onTimeout(() -> subscribers.remove(id));
+        emitter.onError(e -> subscribers.remove(id));
+        subscribers.put(id, subscriber);
+
+        log.debug("Change feed subscriber {} opened for user {}", id, userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNoticeCreated(NoticeCreatedEvent event) {
+        broadcast(new Message("notice", toJson(event)), null);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDocumentUploaded(DocumentUploadedEvent event) {
+        broadcast(new Message("document", toJson(event)), null);
+    }
+
+    @EventListener
+    public void onTaskDeadline(TaskDeadlineEvent event) {
+        if (!event.managerIds().isEmpty()) {
+            broadcast(new Message("task-deadline", toJson(event)), event);
+        }
+    }
+
+    /**
+     * Keep idle connections open through proxies and detect closed clients
+     */
+    @Scheduled(fixedRateString = "${facility.change-feed.heartbeat-ms:30000}")
+    public void heartbeat() {
+        broadcast(Message.HEARTBEAT, null);
+    }
+
+    /**
+     * Disconnect subscribers whose current write has not finished within the write timeout
+     */
+    @Scheduled(fixedDelayString = "${facility.change-feed.write-check-ms:1000}")
+    public void evictStalledWriters() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers.values()) {
+            long startedAt = subscriber.writeStartedAt().get();
+            if (startedAt != 0 && now - startedAt > writeTimeoutNanos) {
+                drop(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Number of open subscriptions
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Number of subscribers disconnected because they could not keep up
+     */
+    public long getDroppedSubscriberCount() {
+        return droppedSubscribers.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.values().forEach(subscriber -> senderPool.execute(subscriber.emitter()::complete));
+        subscribers.clear();
+        senderPool.shutdown();
+    }
+
+    private void broadcast(Message message, TaskDeadlineEvent deadlineEvent) {
+        for (Subscriber subscriber : subscribers.values()) {
+            if (deadlineEvent != null && !deadlineEvent.managerIds().contains(subscriber.userId())) {
+                continue;
+            }
+            if (!subscriber.queue().offer(message)) {
+                drop(subscriber);
+                continue;
+            }
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining().compareAndSet(false, true)) {
+            senderPool.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Message message;
+            while (subscribers.containsKey(subscriber.id()) && (message = subscriber.queue().poll()) != null) {
+                subscriber.writeStartedAt().set(System.nanoTime());
+                if (message == Message.HEARTBEAT) {
+                    subscriber.emitter().send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    subscriber.emitter().send(SseEmitter.event()
+                        .name(message.name())
+                        .data(message.json(), MediaType.APPLICATION_JSON));
+                }
+                subscriber.writeStartedAt().set(0);
+            }
+        } catch (Exception e) {
+            log.debug("Change feed subscriber {} closed: {}", subscriber.id(), e.getMessage());
+            subscribers.remove(subscriber.id());
+            subscriber.queue().clear();
+        } finally {
+            subscriber.writeStartedAt().set(0);
+            subscriber.draining().set(false);
+            if (!subscriber.queue().isEmpty() && subscribers.containsKey(subscriber.id())) {
+                scheduleDrain(subscriber);
+            }
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        if (subscribers.remove(subscriber.id()) != null) {
+            droppedSubscribers.incrementAndGet();
+            log.info("Dropping slow change feed subscriber {}", subscriber.id());
+            subscriber.queue().clear();
+            // complete() waits for a write in progress on the emitter; keep that off the caller
+            senderPool.execute(subscriber.emitter()::complete);
+        }
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (Exception e) {
+            throw new RuntimeException("이벤트 직렬화 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private record Message(String name, String json) {
+        static final Message HEARTBEAT = new Message(null, null);
+    }
+
+    private record Subscriber(long id, Long userId, SseEmitter emitter, Queue<Message> queue,
+                              AtomicBoolean draining, AtomicLong writeStartedAt) {
+        Subscriber(long id, Long userId, SseEmitter emitter, Queue<Message> queue) {
+            this(id, userId, emitter, queue, new AtomicBoolean(), new AtomicLong());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.facilityassist.service;
+
+import com.facilityassist.repository.DocumentContentRepository;
+import com.facilityassist.repository.DocumentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Re-reads the stored content and checks it against the SHA-256 computed during the upload,
+ * so that a truncated or corrupted write is caught before anyone downloads it. Documents stored
+ * without a checksum get one.
+ */
+@Component
+@Order(200)
+@RequiredArgsConstructor
+public class ChecksumVerificationStage implements DocumentProcessingStage {
+
+    private final DocumentContentRepository documentContentRepository;
+    private final DocumentRepository documentRepository;
+
+    @Override
+    public String getName() {
+        return "checksum";
+    }
+
+    @Override
+    public void process(Long documentId) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        try (OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            if (!documentContentRepository.copyContent(documentId, out)) {
+                return;
+            }
+        }
+        String actual = HexFormat.of().formatHex(digest.digest());
+
+        Optional<String> recorded = documentRepository.findChecksumById(documentId);
+        if (recorded.isEmpty()) {
+            documentRepository.updateChecksum(documentId, actual);
+        } else if (!recorded.get().equalsIgnoreCase(actual)) {
+            throw new IllegalStateException("Stored content of document " + documentId + " does not match its checksum");
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.facilityassist.service;
+
+import com.facilityassist.repository.DocumentContentRepository;
+import com.facilityassist.repository.DocumentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Checks the content type declared by the client against the magic bytes of the content.
+ *
+ * Only the formats recognised here are corrected: a generic or missing declared type is replaced
+ * with the detected one, and so is a declared type that names a different recognised format.
+ * ZIP content keeps its declared type, since Office documents are ZIP files too.
+ */
+@Component
+@Order(100)
+@RequiredArgsConstructor
+@Slf4j
+public class ContentTypeSniffingStage implements DocumentProcessingStage {
+
+    private static final int PREFIX_LENGTH = 16;
+    private static final String GENERIC_TYPE = "application/octet-stream";
+    private static final String ZIP_TYPE = "application/zip";
+    private static final Set<String> RECOGNISED_TYPES = Set.of(
+        "application/pdf", "image/png", "image/jpeg", "image/gif", "image/webp", ZIP_TYPE);
+
+    private final DocumentContentRepository documentContentRepository;
+    private final DocumentRepository documentRepository;
+
+    @Override
+    public String getName() {
+        return "content-type";
+    }
+
+    @Override
+    public void process(Long documentId) {
+        byte[] prefix = documentContentRepository.readPrefix(documentId, PREFIX_LENGTH);
+        if (prefix == null) {
+            return;
+        }
+        String detected = sniff(prefix);
+        if (detected == null) {
+            return;
+        }
+        documentRepository.findFileInfoById(documentId).ifPresent(fileInfo -> {
+            String declared = fileInfo.getFileType();
+            if (shouldReplace(declared, detected)) {
+                log.info("Document {} declared as {} but content is {}", documentId, declared, detected);
+                documentRepository.updateFileType(documentId, detected);
+            }
+        });
+    }
+
+    static boolean shouldReplace(String declared, String detected) {
+        if (declared == null || declared.isBlank() || declared.equalsIgnoreCase(GENERIC_TYPE)) {
+            return true;
+        }
+        if (detected.equals(ZIP_TYPE)) {
+            return false;
+        }
+        String normalized = declared.toLowerCase(Locale.ROOT).split(";")[0].trim();
+        return RECOGNISED_TYPES.contains(normalized) && !normalized.equals(detected);
+    }
+
+    /**
+     * Detect the content type from the first bytes of the content
+     * @param prefix first bytes of the content
+     * @return detected content type, or null if the format is not recognised
+     */
+    static String sniff(byte[] prefix) {
+        if (startsWith(prefix, "%PDF-".getBytes(StandardCharsets.US_ASCII))) {
+            return "application/pdf";
+        }
+        if (startsWith(prefix, new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'})) {
+            return "image/png";
+        }
+        if (startsWith(prefix, new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF})) {
+            return "image/jpeg";
+        }
+        if (startsWith(prefix, "GIF87a".getBytes(StandardCharsets.US_ASCII))
+                || startsWith(prefix, "GIF89a".getBytes(StandardCharsets.US_ASCII))) {
+            return "image/gif";
+        }
+        if (prefix.length >= 12 && startsWith(prefix, "RIFF".getBytes(StandardCharsets.US_ASCII))
+                && new String(prefix, 8, 4, StandardCharsets.US_ASCII).equals("WEBP")) {
+            return "image/webp";
+        }
+        if (startsWith(prefix, new byte[]{'P', 'K', 3, 4})) {
+            return ZIP_TYPE;
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] data, byte[] magic) {
+        if (data.length < magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if (data[i] != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,135 @@
+package com.facilityassist.service;
+
+import com.facilityassist.dto.DashboardResponse;
+import com.facilityassist.dto.DocumentListResponse;
+import com.facilityassist.dto.NoticeListResponse;
+import com.facilityassist.dto.UserInfoResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Service assembling the dashboard from the user, notice and document services in parallel.
+ *
+ * Every section runs on its own thread with the caller's security context and its own timeout,
+ * so the dashboard takes as long as its slowest section. A section that fails or times out is
+ * reported as unavailable and the others are still returned. The platform thread pool has a
+ * bounded queue; a section that does not fit is reported as unavailable rather than queued
+ * behind work nobody is waiting for, and a section that times out is cancelled, interrupting it
+ * if it is running and dropping it if it is still queued.
+ */
+@Service
+@Slf4j
+public class DashboardService {
+
+    private final UserService userService;
+    private final NoticeService noticeService;
+    private final DocumentService documentService;
+    private final ExecutorService pool;
+    private final ExecutorService executor;
+    private final long timeoutMs;
+
+    public DashboardService(UserService userService,
+                            NoticeService noticeService,
+                            DocumentService documentService,
+                            @Value("${facility.dashboard.threads:16}") int threads,
+                            @Value("${facility.dashboard.queue-capacity:64}") int queueCapacity,
+                            @Value("${facility.dashboard.timeout-ms:2000}") long timeoutMs,
+                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.userService = userService;
+        this.noticeService = noticeService;
+        this.documentService = documentService;
+        this.timeoutMs = timeoutMs;
+        if (virtualThreads) {
+            this.pool = Executors.newVirtualThreadPerTaskExecutor();
+        } else {
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        }
+        this.executor = new DelegatingSecurityContextExecutorService(pool);
+    }
+
+    /**
+     * Get the dashboard of the current user
+     * @param size number of recent notices and documents
+     * @return DashboardResponse with every section that completed in time
+     */
+    public DashboardResponse getDashboard(int size) {
+        log.debug("Getting dashboard - size: {}", size);
+
+        CompletableFuture<UserInfoResponse> user = section(() -> userService.getCurrentUserInfo()
+            .orElseThrow(() -> new IllegalStateException("No user information for current user")));
+        CompletableFuture<NoticeListResponse> notices = section(() -> noticeService.getRecentNotices(0, size));
+        CompletableFuture<DocumentListResponse> documents = section(() -> documentService.getRecentDocuments(0, size));
+
+        List<String> unavailable = new ArrayList<>();
+        return DashboardResponse.builder()
+            .user(join(user, "user", unavailable))
+            .notices(join(notices, "notices", unavailable))
+            .documents(join(documents, "documents", unavailable))
+            .unavailableSections(unavailable)
+            .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> section(Supplier<T> supplier) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                if (result.isDone()) {
+                    // Timed out while queued
+                    return;
+                }
+                try {
+                    result.complete(supplier.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        result.orTimeout(timeoutMs, TimeUnit.MILLISECONDS).whenComplete((value, failure) -> {
+            if (failure != null) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private <T> T join(CompletableFuture<T> future, String section, List<String> unavailable) {
+        try {
+            return future.join();
+        } catch (Exception e) {
+            log.warn("Dashboard section '{}' unavailable: {}", section, e.getCause() != null ? e.getCause().toString() : e.toString());
+            unavailable.add(section);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.facilityassist.service;
+
+import com.facilityassist.model.ContentStorage;
+import com.facilityassist.model.ProcessingStatus;
+import com.facilityassist.repository.BinaryDelta;
+import com.facilityassist.repository.DocumentContentRepository;
+import com.facilityassist.repository.DocumentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Stores a new version of a document as a delta against the previous version when the delta is
+ * much smaller than the content.
+ *
+ * Versions are uploaded in full and replaced by their delta here, after the other stages have
+ * read the content. Every snapshot-interval versions one is kept in full, so rebuilding any
+ * version applies fewer than that many deltas. Versions larger than the delta size limit are always
+ * kept in full, since encoding holds both versions in memory. The delta is checked by applying it
+ * before the content is replaced.
+ *
+ * The depth of a delta is the depth of the previous version plus one, so it is only computed once
+ * the previous version has been processed. A version whose predecessor is still pending or being
+ * processed (uploads processed out of order) is kept in full, since the predecessor may still
+ * become a delta itself and the depth read now would be too small.
+ */
+@Component
+@Order(400)
+@Slf4j
+public class DeltaCompressionStage implements DocumentProcessingStage {
+
+    private final DocumentRepository documentRepository;
+    private final DocumentContentRepository documentContentRepository;
+    private final MeterRegistry meterRegistry;
+    private final long maxSourceSize;
+
+    @Value("${facility.documents.versions.snapshot-interval:10}")
+    private int snapshotInterval;
+
+    @Value("${facility.documents.versions.max-delta-ratio:0.5}")
+    private double maxDeltaRatio;
+
+    public DeltaCompressionStage(DocumentRepository documentRepository,
+                                 DocumentContentRepository documentContentRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${facility.documents.versions.max-delta-source-size:32MB}") DataSize maxSourceSize) {
+        this.documentRepository = documentRepository;
+        this.documentContentRepository = documentContentRepository;
+        this.meterRegistry = meterRegistry;
+        this.maxSourceSize = maxSourceSize.toBytes();
+    }
+
+    @Override
+    public String getName() {
+        return "delta";
+    }
+
+    @Override
+    public void process(Long documentId) throws IOException {
+        DocumentRepository.DocumentVersionInfo version = documentRepository.findVersionInfoById(documentId).orElse(null);
+        if (version == null || version.getParentDocumentId() == null || version.getStorageType() != ContentStorage.FULL) {
+            return;
+        }
+        DocumentRepository.DocumentVersionInfo previous = documentRepository
+            .findVersionInfo(version.getRootId(), version.getVersionNumber() - 1).orElse(null);
+        if (previous == null) {
+            return;
+        }
+        if (previous.getProcessingStatus() == ProcessingStatus.PENDING
+                || previous.getProcessingStatus() == ProcessingStatus.PROCESSING) {
+            log.debug("Keeping version {} of document {} in full; the previous version is still being processed",
+                version.getVersionNumber(), version.getRootId());
+            return;
+        }
+        int depth = previous.getDeltaDepth() + 1;
+        if (depth >= snapshotInterval) {
+            log.debug("Keeping version {} of document {} as a full snapshot", version.getVersionNumber(), version.getRootId());
+            return;
+        }
+        if (version.getFileSize() > maxSourceSize || previous.getFileSize() > maxSourceSize) {
+            return;
+        }
+
+        byte[] base = read(previous.getId(), previous.getFileSize());
+        byte[] target = read(documentId, version.getFileSize());
+        if (base == null || target == null) {
+            return;
+        }
+        byte[] delta = BinaryDelta.encode(base, target);
+        if (delta.length > target.length * maxDeltaRatio) {
+            log.debug("Delta of document {} is {} of {} bytes; keeping it in full", documentId, delta.length, target.length);
+            return;
+        }
+        verify(delta, base, target);
+
+        if (documentContentRepository.replaceWithDelta(documentId, delta, previous.getId(), depth)) {
+            meterRegistry.counter("facility.documents.delta.saved.bytes").increment(target.length - delta.length);
+            log.info("Stored document {} as a {} byte delta of document {} ({} bytes in full)",
+                documentId, delta.length, previous.getId(), target.length);
+        }
+    }
+
+    private byte[] read(Long id, long size) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) size);
+        return documentContentRepository.copyContent(id, out) ? out.toByteArray() : null;
+    }
+
+    private static void verify(byte[] delta, byte[] base, byte[] target) throws IOException {
+        Path baseFile = Files.createTempFile("document-delta-check-", ".tmp");
+        try {
+            Files.write(baseFile, base);
+            ByteArrayOutputStream rebuilt = new ByteArrayOutputStream(target.length);
+            try (RandomAccessFile file = new RandomAccessFile(baseFile.toFile(), "r")) {
+                BinaryDelta.apply(new ByteArrayInputStream(delta), file, rebuilt);
+            }
+            if (!Arrays.equals(rebuilt.toByteArray(), target)) {
+                throw new IllegalStateException("Delta does not reproduce the content");
+            }
+        } finally {
+            Files.deleteIfExists(baseFile);
+        }
+    }
+}
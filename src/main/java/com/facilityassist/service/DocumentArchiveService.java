@@ -0,0 +1,240 @@
+package com.facilityassist.service;
+
+import com.facilityassist.dto.DocumentResponse;
+import com.facilityassist.repository.DocumentContentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes several documents into one ZIP stream.
+ *
+ * Formats that are already compressed are written as STORED entries, which is cheaper than
+ * deflating them again for no gain. A STORED entry needs its CRC and size in its header, so its
+ * document is first read into a temporary file that yields both, and the entry is written from
+ * there. Every other document is deflated straight from the blob stream into the archive, and its
+ * entry is only started once the first byte arrives. Either way memory use does not depend on how
+ * many documents there are or how large they are, and a document that disappears before it is
+ * read never leaves an empty entry behind.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentArchiveService {
+
+    private static final Set<String> COMPRESSED_EXTENSIONS = Set.of(
+        "zip", "gz", "tgz", "bz2", "xz", "7z", "rar", "jar",
+        "jpg", "jpeg", "png", "gif", "webp", "heic",
+        "mp3", "mp4", "m4a", "mov", "avi", "mkv",
+        "pdf", "docx", "xlsx", "pptx", "hwpx", "odt", "ods", "odp");
+
+    private static final Set<String> COMPRESSED_TYPE_PREFIXES = Set.of("image/", "audio/", "video/");
+
+    private final DocumentContentRepository documentContentRepository;
+
+    /**
+     * Write the given documents as a ZIP archive
+     * @param documents documents to include, in archive order
+     * @param out stream to write the archive to; left open
+     * @return number of content bytes written, before compression
+     */
+    public long writeArchive(List<DocumentResponse.DocumentDownload> documents, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        Set<String> entryNames = new HashSet<>();
+        long totalBytes = 0;
+
+        Path buffer = null;
+        try {
+            for (DocumentResponse.DocumentDownload document : documents) {
+                String name = uniqueEntryName(document.getFileName(), entryNames);
+                long written;
+                if (isCompressed(document)) {
+                    if (buffer == null) {
+                        buffer = Files.createTempFile("document-archive-", ".tmp");
+                    }
+                    written = writeStored(document, name, buffer, zip);
+                } else {
+                    written = writeDeflated(document, name, zip);
+                }
+                if (written < 0) {
+                    // Deactivated after the metadata lookup
+                    log.warn("Document {} disappeared while being archived", document.getId());
+                    entryNames.remove(name);
+                    continue;
+                }
+                totalBytes += written;
+            }
+        } finally {
+            if (buffer != null) {
+                Files.deleteIfExists(buffer);
+            }
+        }
+
+        // Writes the central directory without closing the response stream
+        zip.finish();
+        return totalBytes;
+    }
+
+    /**
+     * @return content bytes written, or -1 if the document no longer exists
+     */
+    private long writeStored(DocumentResponse.DocumentDownload document, String name, Path buffer,
+                             ZipOutputStream zip) throws IOException {
+        CountingCrcStream checksum;
+        try (OutputStream file = Files.newOutputStream(buffer)) {
+            checksum = new CountingCrcStream(file);
+            if (!documentContentRepository.copyContent(document.getId(), checksum)) {
+                return -1;
+            }
+        }
+
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(checksum.count);
+        entry.setCompressedSize(checksum.count);
+        entry.setCrc(checksum.crc.getValue());
+        zip.putNextEntry(entry);
+        Files.copy(buffer, zip);
+        zip.closeEntry();
+        return checksum.count;
+    }
+
+    /**
+     * @return content bytes written, or -1 if the document no longer exists
+     */
+    private long writeDeflated(DocumentResponse.DocumentDownload document, String name,
+                               ZipOutputStream zip) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.DEFLATED);
+        LazyEntryStream content = new LazyEntryStream(zip, entry);
+        if (!documentContentRepository.copyContent(document.getId(), content)) {
+            if (content.started) {
+                throw new IllegalStateException("Document " + document.getId() + " disappeared while being read");
+            }
+            return -1;
+        }
+        content.start();
+        zip.closeEntry();
+        return content.count;
+    }
+
+    /**
+     * Whether the document format is already compressed, judged by its extension and content type
+     */
+    boolean isCompressed(DocumentResponse.DocumentDownload document) {
+        String fileType = document.getFileType() != null ? document.getFileType().toLowerCase(Locale.ROOT) : "";
+        if (COMPRESSED_TYPE_PREFIXES.stream().anyMatch(fileType::startsWith) && !fileType.equals("image/svg+xml")
+                && !fileType.equals("image/bmp")) {
+            return true;
+        }
+        String fileName = document.getFileName() != null ? document.getFileName() : "";
+        int dot = fileName.lastIndexOf('.');
+        return dot >= 0 && COMPRESSED_EXTENSIONS.contains(fileName.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Entry name based on the file name, suffixed with (2), (3), ... when the name is already taken
+     */
+    private String uniqueEntryName(String fileName, Set<String> taken) {
+        String name = fileName == null || fileName.isBlank() ? "document" : fileName.replace('\\', '_').replace('/', '_');
+        if (taken.add(name)) {
+            return name;
+        }
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        String extension = dot > 0 ? name.substring(dot) : "";
+        for (int i = 2; ; i++) {
+            String candidate = base + " (" + i + ")" + extension;
+            if (taken.add(candidate)) {
+                return candidate;
+            }
+        }
+    }
+
+    /**
+     * Starts its ZIP entry on the first write, and counts the bytes written
+     */
+    private static final class LazyEntryStream extends FilterOutputStream {
+        private final ZipEntry entry;
+        private boolean started;
+        private long count;
+
+        LazyEntryStream(ZipOutputStream zip, ZipEntry entry) {
+            super(zip);
+            this.entry = entry;
+        }
+
+        void start() throws IOException {
+            if (!started) {
+                ((ZipOutputStream) out).putNextEntry(entry);
+                started = true;
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            start();
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
+            start();
+            out.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void close() {
+            // The archive stream belongs to the caller
+        }
+    }
+
+    /**
+     * Counts the bytes passed through and their CRC-32
+     */
+    private static final class CountingCrcStream extends FilterOutputStream {
+        private final CRC32 crc = new CRC32();
+        private long count;
+
+        CountingCrcStream(OutputStream target) {
+            super(target);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            crc.update(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            crc.update(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void close() {
+            // The target stream belongs to the caller
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.facilityassist.service;
+
+import com.facilityassist.event.DocumentProcessingRequestedEvent;
+import com.facilityassist.model.DocumentProcessingJob;
+import com.facilityassist.model.ProcessingStatus;
+import com.facilityassist.repository.DocumentProcessingJobRepository;
+import com.facilityassist.repository.DocumentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the post-upload processing stages of new documents off the request path.
+ *
+ * Every upload creates a row in DOCUMENT_PROCESSING_JOB in the upload transaction, and the job is
+ * handed to a fixed pool of workers once that transaction commits, so the upload returns as soon
+ * as its content is stored. The pool's queue is bounded: when it is full the job simply stays
+ * pending and the poller submits it once there is room, so a burst of uploads queues up in the
+ * database instead of in memory. A failed attempt is retried with exponential backoff and jitter
+ * until the attempt limit, after which the job and the document are marked FAILED. Jobs held by a
+ * worker that died (or an instance that stopped) are released after the lock timeout, or marked
+ * FAILED if that was their last attempt.
+ */
+@Service
+@Slf4j
+public class DocumentProcessingService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final DocumentProcessingJobRepository jobRepository;
+    private final DocumentRepository documentRepository;
+    private final List<DocumentProcessingStage> stages;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor pool;
+    // Jobs submitted to the pool and not finished yet, so the poller does not submit them twice
+    private final Set<Long> submittedJobs = ConcurrentHashMap.newKeySet();
+    private final Counter rejectedCounter;
+
+    @Value("${facility.processing.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${facility.processing.backoff-initial:5s}")
+    private Duration backoffInitial;
+
+    @Value("${facility.processing.backoff-max:10m}")
+    private Duration backoffMax;
+
+    @Value("${facility.processing.lock-timeout:10m}")
+    private Duration lockTimeout;
+
+    public DocumentProcessingService(DocumentProcessingJobRepository jobRepository,
+                                     DocumentRepository documentRepository,
+                                     List<DocumentProcessingStage> stages,
+                                     ApplicationEventPublisher eventPublisher,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${facility.processing.threads:2}") int threads,
+                                     @Value("${facility.processing.queue-capacity:100}") int queueCapacity) {
+        this.jobRepository = jobRepository;
+        this.documentRepository = documentRepository;
+        this.stages = stages;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "document-processing-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+        this.rejectedCounter = Counter.builder("facility.document.processing.rejected")
+            .description("Jobs left pending because the worker queue was full")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Create the processing job of a document; it is submitted to the workers after commit
+     * @param documentId document ID
+     * @return ID of the processing job
+     */
+    @Transactional
+    public Long enqueue(Long documentId) {
+        DocumentProcessingJob job = jobRepository.save(DocumentProcessingJob.builder()
+            .documentId(documentId)
+            .build());
+        eventPublisher.publishEvent(new DocumentProcessingRequestedEvent(job.getId(), documentId));
+        return job.getId();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProcessingRequested(DocumentProcessingRequestedEvent event) {
+        submit(event.jobId());
+    }
+
+    /**
+     * Release stale jobs and submit due ones, as many as the worker queue has room for
+     */
+    @Scheduled(fixedDelayString = "${facility.processing.poll-interval-ms:10000}")
+    public void pollDueJobs() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            releaseStale(now.minus(lockTimeout));
+
+            int room = pool.getQueue().remainingCapacity();
+            if (room == 0) {
+                return;
+            }
+            for (Long jobId : jobRepository.findDueIds(ProcessingStatus.PENDING, now, maxAttempts, PageRequest.of(0, room))) {
+                if (!submit(jobId)) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error polling document processing jobs", e);
+        }
+    }
+
+    /**
+     * Get the number of jobs waiting in the worker queue
+     * @return queued job count
+     */
+    public int getQueuedJobCount() {
+        return pool.getQueue().size();
+    }
+
+    /**
+     * Get the number of workers currently running a job
+     * @return active worker count
+     */
+    public int getActiveWorkerCount() {
+        return pool.getActiveCount();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * @return false if the worker queue is full; the job stays pending for the poller
+     */
+    private boolean submit(Long jobId) {
+        if (!submittedJobs.add(jobId)) {
+            return true;
+        }
+        try {
+            pool.execute(() -> run(jobId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            submittedJobs.remove(jobId);
+            rejectedCounter.increment();
+            log.debug("Document processing queue full, job {} left pending", jobId);
+            return false;
+        }
+    }
+
+    private void run(Long jobId) {
+        try {
+            if (jobRepository.claim(jobId, LocalDateTime.now(), maxAttempts, ProcessingStatus.PENDING, ProcessingStatus.PROCESSING) == 0) {
+                return;
+            }
+            DocumentProcessingJob job = jobRepository.findById(jobId).orElse(null);
+            if (job == null) {
+                return;
+            }
+            process(job);
+        } catch (Exception e) {
+            log.error("Error running document processing job {}", jobId, e);
+        } finally {
+            submittedJobs.remove(jobId);
+        }
+    }
+
+    private void process(DocumentProcessingJob job) {
+        Long documentId = job.getDocumentId();
+        documentRepository.updateProcessingStatus(documentId, ProcessingStatus.PROCESSING);
+        try {
+            for (DocumentProcessingStage stage : stages) {
+                runStage(stage, documentId);
+            }
+        } catch (Throwable e) {
+            // Errors too: a stage that dies with e.g. StackOverflowError on hostile content must
+            // still use up an attempt instead of leaving the job held until the lock timeout
+            fail(job, e);
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        jobRepository.finish(job.getId(), ProcessingStatus.COMPLETED, now, null, now);
+        documentRepository.updateProcessingStatus(documentId, ProcessingStatus.COMPLETED);
+        countJob("completed");
+        log.debug("Processed document {} in {} attempt(s)", documentId, job.getAttempts());
+    }
+
+    private void runStage(DocumentProcessingStage stage, Long documentId) throws Exception {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            stage.process(documentId);
+            outcome = "success";
+        } finally {
+            sample.stop(Timer.builder("facility.document.processing.stage")
+                .description("Time spent in each post-upload processing stage")
+                .tag("stage", stage.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+        }
+    }
+
+    private void fail(DocumentProcessingJob job, Throwable e) {
+        String error = e.toString();
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        if (job.getAttempts() >= maxAttempts) {
+            log.error("Processing of document {} failed after {} attempts", job.getDocumentId(), job.getAttempts(), e);
+            jobRepository.finish(job.getId(), ProcessingStatus.FAILED, LocalDateTime.now(), error, null);
+            documentRepository.updateProcessingStatus(job.getDocumentId(), ProcessingStatus.FAILED);
+            countJob("failed");
+            return;
+        }
+
+        Duration delay = backoffDelay(job.getAttempts(), backoffInitial, backoffMax);
+        log.warn("Processing of document {} failed (attempt {}), retrying in {}: {}",
+            job.getDocumentId(), job.getAttempts(), delay, error);
+        jobRepository.finish(job.getId(), ProcessingStatus.PENDING, LocalDateTime.now().plus(delay), error, null);
+        documentRepository.updateProcessingStatus(job.getDocumentId(), ProcessingStatus.PENDING);
+        countJob("retried");
+    }
+
+    /**
+     * Return jobs held past the lock timeout to the queue, or fail them if that was their last
+     * attempt, since the worker presumably died on them
+     */
+    private void releaseStale(LocalDateTime lockedBefore) {
+        int released = 0;
+        for (DocumentProcessingJob job : jobRepository.findStale(lockedBefore, ProcessingStatus.PROCESSING)) {
+            if (job.getAttempts() >= maxAttempts) {
+                if (jobRepository.finishStale(job.getId(), lockedBefore, ProcessingStatus.FAILED,
+                        "Worker did not finish the last attempt", ProcessingStatus.PROCESSING) == 1) {
+                    log.error("Processing of document {} abandoned after {} attempts", job.getDocumentId(), job.getAttempts());
+                    documentRepository.updateProcessingStatus(job.getDocumentId(), ProcessingStatus.FAILED);
+                    countJob("failed");
+                }
+            } else if (jobRepository.finishStale(job.getId(), lockedBefore, ProcessingStatus.PENDING,
+                    "Worker did not finish the attempt", ProcessingStatus.PROCESSING) == 1) {
+                documentRepository.updateProcessingStatus(job.getDocumentId(), ProcessingStatus.PENDING);
+                released++;
+            }
+        }
+        if (released > 0) {
+            log.warn("Released {} document processing jobs held past the lock timeout", released);
+        }
+    }
+
+    private void countJob(String outcome) {
+        Counter.builder("facility.document.processing.jobs")
+            .description("Finished document processing attempts")
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    /**
+     * Exponential backoff with jitter: a random delay between half and all of
+     * initial * 2^(attempts - 1), capped at max
+     * @param attempts attempts made so far, at least 1
+     */
+    static Duration backoffDelay(int attempts, Duration initial, Duration max) {
+        long ceiling = initial.toMillis() << Math.min(Math.max(attempts - 1, 0), 30);
+        if (ceiling <= 0 || ceiling > max.toMillis()) {
+            ceiling = max.toMillis();
+        }
+        long half = ceiling / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(ceiling - half + 1));
+    }
+}
@@ -0,0 +1,21 @@
+package com.facilityassist.service;
+
+/**
+ * One step of the post-upload processing pipeline. Stages run in {@code @Order} order on the
+ * processing workers, after the upload has committed. A stage may run more than once for the same
+ * document when a later stage fails and the job is retried, so it must be idempotent.
+ */
+public interface DocumentProcessingStage {
+
+    /**
+     * Get the stage name, used as the metrics tag
+     * @return stage name
+     */
+    String getName();
+
+    /**
+     * Process a document. Throwing fails the attempt and schedules a retry.
+     * @param documentId document ID
+     */
+    void process(Long documentId) throws Exception;
+}
@@ -2,38 +2,52 @@ package com.facilityassist.service;
 
 import com.facilityassist.dto.DocumentListResponse;
 import com.facilityassist.dto.DocumentResponse;
-import com.facilityassist.dto.UploadDocumentRequest;
+import com.facilityassist.event.DocumentUploadedEvent;
+import com.facilityassist.event.DocumentVersionSupersededEvent;
 import com.facilityassist.model.Document;
+import com.facilityassist.model.ProcessingStatus;
 import com.facilityassist.model.User;
 import com.facilityassist.repository.DocumentRepository;
+import com.facilityassist.repository.ExportRepository;
 import com.facilityassist.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Service for document-related operations
  */
 @Service
+@Timed(value = "facility.service", histogram = true)
 @RequiredArgsConstructor
 @Slf4j
 public class DocumentService {
     
     private final DocumentRepository documentRepository;
     private final UserRepository userRepository;
+    private final ExportRepository exportRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RequestCoalescer requestCoalescer;
+    private final StatisticsService statisticsService;
+    private final DocumentProcessingService documentProcessingService;
     private final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     
     /**
@@ -43,11 +57,18 @@ public class DocumentService {
      * @return DocumentListResponse with paginated documents
      */
     public DocumentListResponse getRecentDocuments(int page, int size) {
+        // Dashboards opened at the same moment share one query per page
+        return requestCoalescer.execute("recent-documents", page + ":" + size, () -> loadRecentDocuments(page, size));
+    }
+    
+    private DocumentListResponse loadRecentDocuments(int page, int size) {
         try {
             log.debug("Getting recent documents - page: {}, size: {}", page, size);
             
+            // Totals come from the maintained counters instead of a count query
+            long totalCount = statisticsService.getActiveDocumentCount();
             Pageable pageable = PageRequest.of(page, size);
-            Page<Document> documentPage = documentRepository.findAllActiveOrderByUploadedAtDesc(pageable);
+            Slice<Document> documentPage = documentRepository.findAllActiveOrderByUploadedAtDesc(pageable);
             
             List<DocumentResponse.DocumentSummary> documentSummaries = documentPage.getContent()
                 .stream()
@@ -56,9 +77,9 @@ public class DocumentService {
             
             return DocumentListResponse.builder()
                 .documents(documentSummaries)
-                .totalCount((int) documentPage.getTotalElements())
+                .totalCount((int) totalCount)
                 .currentPage(page + 1) // Convert to 1-based page number
-                .totalPages(documentPage.getTotalPages())
+                .totalPages((int) ((totalCount + size - 1) / size))
                 .hasNext(documentPage.hasNext())
                 .hasPrevious(documentPage.hasPrevious())
                 .build();
@@ -88,15 +109,15 @@ public class DocumentService {
     }
     
     /**
-     * Get document for download by ID
+     * Get document download metadata by ID, without loading the file content
      * @param id document ID
-     * @return DocumentDownload with file content
+     * @return DocumentDownload with file metadata
      */
     public Optional<DocumentResponse.DocumentDownload> getDocumentForDownload(Long id) {
         try {
             log.debug("Getting document for download by ID: {}", id);
             
-            return documentRepository.findByIdAndIsActiveTrue(id)
+            return documentRepository.findFileInfoById(id)
                 .map(this::convertToDocumentDownload);
                 
         } catch (Exception e) {
@@ -105,6 +126,32 @@ public class DocumentService {
         }
     }
     
+    /**
+     * Get download metadata for several documents, without loading their content
+     * @param ids document IDs in the order they were requested
+     * @return DocumentDownloads of the active documents in request order, each ID at most once
+     */
+    public List<DocumentResponse.DocumentDownload> getDocumentsForArchive(List<Long> ids) {
+        try {
+            log.debug("Getting {} documents for archive", ids.size());
+            
+            Map<Long, DocumentRepository.DocumentFileInfo> found = documentRepository.findFileInfoByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(DocumentRepository.DocumentFileInfo::getId, Function.identity()));
+            
+            return ids.stream()
+                .distinct()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToDocumentDownload)
+                .collect(Collectors.toList());
+                
+        } catch (Exception e) {
+            log.error("Error getting documents for archive: {}", ids, e);
+            throw new RuntimeException("문서 다운로드 중 오류가 발생했습니다.", e);
+        }
+    }
+    
     /**
      * Get all documents (for admin purposes)
      * @return List of all active documents
@@ -124,6 +171,47 @@ public class DocumentService {
         }
     }
     
+    /**
+     * Stream all active documents as summaries, newest first, reading them from a forward-only cursor
+     * on the blob pool so that a slow client holds no main pool connection or transaction
+     * @param consumer receives each summary as it is read
+     * @return number of documents streamed
+     */
+    public long streamAllDocuments(Consumer<DocumentResponse.DocumentSummary> consumer) {
+        log.debug("Streaming all documents");
+        
+        long[] count = new long[1];
+        exportRepository.streamDocumentSummaries(row -> {
+            consumer.accept(DocumentResponse.DocumentSummary.builder()
+                .id(row.id())
+                .title(row.title())
+                .description(row.description())
+                .fileName(row.fileName())
+                .fileType(row.fileType())
+                .fileSize(row.fileSize())
+                .uploaderName(row.uploaderName())
+                .uploadedAt(row.uploadedAt())
+                .formattedDate(row.uploadedAt().format(dateFormatter))
+                .formattedFileSize(formatFileSize(row.fileSize()))
+                .build());
+            count[0]++;
+        });
+        return count[0];
+    }
+    
+    /**
+     * Get a weak ETag for the full document list without loading any document
+     * @return weak ETag derived from the active document count and latest upload time
+     */
+    public String getAllDocumentsETag() {
+        try {
+            return documentRepository.findActiveListVersion().toWeakETag("documents");
+        } catch (Exception e) {
+            log.error("Error getting document list version", e);
+            throw new RuntimeException("문서를 가져오는 중 오류가 발생했습니다.", e);
+        }
+    }
+    
     /**
      * Convert Document entity to DocumentResponse
      * @param document Document entity
@@ -139,6 +227,10 @@ public class DocumentService {
             .fileSize(document.getFileSize())
             .uploaderName(document.getUploadedBy() != null ? document.getUploadedBy().getName() : "알 수 없음")
             .uploaderUsername(document.getUploadedBy() != null ? document.getUploadedBy().getUsername() : "unknown")
+            .checksum(document.getChecksum())
+            .processingStatus(document.getProcessingStatus() != null ? document.getProcessingStatus() : ProcessingStatus.COMPLETED)
+            .parentDocumentId(document.getParentDocumentId())
+            .versionNumber(document.getVersionNumber())
             .uploadedAt(document.getUploadedAt())
             .formattedDate(document.getUploadedAt().format(dateFormatter))
             .formattedFileSize(formatFileSize(document.getFileSize()))
@@ -150,7 +242,7 @@ public class DocumentService {
      * @param document Document entity
      * @return DocumentSummary
      */
-    private DocumentResponse.DocumentSummary convertToDocumentSummary(Document document) {
+    DocumentResponse.DocumentSummary convertToDocumentSummary(Document document) {
         return DocumentResponse.DocumentSummary.builder()
             .id(document.getId())
             .title(document.getTitle())
@@ -166,18 +258,17 @@ public class DocumentService {
     }
     
     /**
-     * Convert Document entity to DocumentDownload
-     * @param document Document entity
+     * Convert document file metadata to DocumentDownload
+     * @param fileInfo document file metadata
      * @return DocumentDownload
      */
-    private DocumentResponse.DocumentDownload convertToDocumentDownload(Document document) {
+    private DocumentResponse.DocumentDownload convertToDocumentDownload(DocumentRepository.DocumentFileInfo fileInfo) {
         return DocumentResponse.DocumentDownload.builder()
-            .id(document.getId())
-            .title(document.getTitle())
-            .fileName(document.getFileName())
-            .fileType(document.getFileType())
-            .fileContent(document.getFileContent())
-            .fileSize(document.getFileSize())
+            .id(fileInfo.getId())
+            .title(fileInfo.getTitle())
+            .fileName(fileInfo.getFileName())
+            .fileType(fileInfo.getFileType())
+            .fileSize(fileInfo.getFileSize())
             .build();
     }
     
@@ -186,7 +277,7 @@ public class DocumentService {
      * @param bytes file size in bytes
      * @return formatted file size string
      */
-    private String formatFileSize(Long bytes) {
+    String formatFileSize(Long bytes) {
         if (bytes == null || bytes == 0) {
             return "0 B";
         }
@@ -204,14 +295,75 @@ public class DocumentService {
     }
     
     /**
-     * Upload a new document
-     * @param request UploadDocumentRequest containing title, description and file
+     * Get every version of a document, newest first
+     * @param id ID of any version of the document
+     * @return versions, or empty if no active document exists with the ID
+     */
+    public Optional<List<DocumentResponse.DocumentVersion>> getVersions(Long id) {
+        try {
+            log.debug("Getting versions of document {}", id);
+            
+            return documentRepository.findVersionInfoById(id)
+                .map(info -> documentRepository.findVersions(info.getRootId()).stream()
+                    .map(this::convertToDocumentVersion)
+                    .collect(Collectors.toList()));
+                
+        } catch (Exception e) {
+            log.error("Error getting versions of document {}", id, e);
+            throw new RuntimeException("문서 버전을 가져오는 중 오류가 발생했습니다.", e);
+        }
+    }
+    
+    /**
+     * Check that a document exists to upload a new version of, before its content is read
+     * @param id ID of any version of the document
+     * @return true if an active document exists with the ID
+     */
+    public boolean canAddVersion(Long id) {
+        return documentRepository.findVersionInfoById(id).isPresent();
+    }
+    
+    /**
+     * Convert a version list row to DocumentVersion
+     * @param row version list row
+     * @return DocumentVersion
+     */
+    private DocumentResponse.DocumentVersion convertToDocumentVersion(DocumentRepository.DocumentVersionRow row) {
+        return DocumentResponse.DocumentVersion.builder()
+            .id(row.getId())
+            .versionNumber(row.getVersionNumber())
+            .title(row.getTitle())
+            .fileName(row.getFileName())
+            .fileType(row.getFileType())
+            .fileSize(row.getFileSize())
+            .storedSize(row.getStoredSize() != null ? row.getStoredSize() : row.getFileSize())
+            .storageType(row.getStorageType())
+            .checksum(row.getChecksum())
+            .latest(Boolean.TRUE.equals(row.getLatestVersion()))
+            .uploaderName(row.getUploaderName())
+            .uploadedAt(row.getUploadedAt())
+            .formattedDate(row.getUploadedAt().format(dateFormatter))
+            .formattedFileSize(formatFileSize(row.getFileSize()))
+            .build();
+    }
+    
+    /**
+     * Publish a document whose content has been streamed into the store by DocumentUploadService
+     * @param id ID of the pending (inactive) document row
+     * @param parentId ID of any version of the document this is a new version of, or null for a new document
+     * @param title document title; for a new version, null keeps the title of the previous version
+     * @param description document description; for a new version, null keeps the previous description
+     * @param fileSize content size in bytes, as counted while streaming
+     * @param checksum SHA-256 of the content, as computed while streaming
      * @return DocumentResponse of the uploaded document
+     * @throws IllegalArgumentException if the parent document does not exist
+     * @throws IllegalStateException if another version of the parent was uploaded at the same time
      */
     @Transactional
-    public DocumentResponse uploadDocument(UploadDocumentRequest request) {
+    public DocumentResponse activateUpload(Long id, Long parentId, String title, String description,
+                                           long fileSize, String checksum) {
         try {
-            log.info("Uploading new document with title: {}", request.getTitle());
+            log.info("Activating uploaded document {} with title: {}", id, title);
             
             // Get current authenticated user
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -223,43 +375,69 @@ public class DocumentService {
             User currentUser = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
             
-            MultipartFile file = request.getFile();
+            DocumentRepository.DocumentFileInfo fileInfo = documentRepository.findPendingFileInfoById(id)
+                .orElseThrow(() -> new RuntimeException("업로드된 파일을 찾을 수 없습니다."));
             
-            // Validate file
-            if (file.isEmpty()) {
-                throw new RuntimeException("파일이 비어있습니다.");
+            DocumentRepository.DocumentVersionInfo previous = null;
+            if (parentId != null) {
+                Long rootId = documentRepository.findVersionInfoById(parentId)
+                    .orElseThrow(() -> new IllegalArgumentException("원본 문서를 찾을 수 없습니다."))
+                    .getRootId();
+                previous = documentRepository.findLatestVersionInfo(rootId)
+                    .orElseThrow(() -> new IllegalStateException("최신 버전을 찾을 수 없습니다."));
+                if (title == null) {
+                    title = previous.getTitle();
+                }
+                if (description == null) {
+                    description = previous.getDescription();
+                }
             }
             
-            // Check file size (max 10MB)
-            if (file.getSize() > 10 * 1024 * 1024) {
-                throw new RuntimeException("파일 크기는 10MB를 초과할 수 없습니다.");
+            LocalDateTime uploadedAt = LocalDateTime.now();
+            documentRepository.activate(id, title, description, fileSize, checksum, uploadedAt);
+            
+            Long parentDocumentId = null;
+            int versionNumber = 1;
+            if (previous != null) {
+                // Blocks on a concurrent upload of the same document and fails once it commits
+                if (documentRepository.supersede(previous.getId()) == 0) {
+                    throw new IllegalStateException("다른 사용자가 새 버전을 먼저 업로드했습니다.");
+                }
+                parentDocumentId = previous.getRootId();
+                versionNumber = previous.getVersionNumber() + 1;
+                documentRepository.assignVersion(id, parentDocumentId, versionNumber);
+                eventPublisher.publishEvent(new DocumentVersionSupersededEvent(
+                    previous.getId(), previous.getUploaderId(), previous.getUnitId(), previous.getFileSize()));
             }
             
-            // Create new document
-            Document document = Document.builder()
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .fileName(file.getOriginalFilename())
-                .fileType(file.getContentType())
-                .fileSize(file.getSize())
-                .fileContent(file.getBytes())
-                .uploadedBy(currentUser)
-                .build();
+            // Post-upload processing runs on the processing workers once this commits
+            documentProcessingService.enqueue(id);
             
-            // Save document
-            Document savedDocument = documentRepository.save(document);
-            log.info("Successfully uploaded document with ID: {}", savedDocument.getId());
+            eventPublisher.publishEvent(new DocumentUploadedEvent(id, title, fileInfo.getFileName(), currentUser.getName(),
+                uploadedAt, currentUser.getId(), currentUser.getUnit() != null ? currentUser.getUnit().getId() : null, fileSize));
+            log.info("Successfully uploaded document with ID: {} (version {})", id, versionNumber);
             
-            // Convert to response
-            return convertToDocumentResponse(savedDocument);
+            // Built from the known values so that the content is not read back
+            return convertToDocumentResponse(Document.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .fileName(fileInfo.getFileName())
+                .fileType(fileInfo.getFileType())
+                .fileSize(fileSize)
+                .checksum(checksum)
+                .processingStatus(ProcessingStatus.PENDING)
+                .parentDocumentId(parentDocumentId)
+                .versionNumber(versionNumber)
+                .uploadedBy(currentUser)
+                .uploadedAt(uploadedAt)
+                .build());
             
-        } catch (IOException e) {
-            log.error("Error reading file content", e);
-            throw new RuntimeException("파일을 읽는 중 오류가 발생했습니다.", e);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("Error uploading document", e);
+            log.error("Error activating uploaded document {}", id, e);
             throw new RuntimeException("문서 업로드 중 오류가 발생했습니다.", e);
         }
     }
 }
-
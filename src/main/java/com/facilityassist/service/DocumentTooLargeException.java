@@ -0,0 +1,11 @@
+package com.facilityassist.service;
+
+/**
+ * Thrown when an uploaded document exceeds the configured maximum size
+ */
+public class DocumentTooLargeException extends RuntimeException {
+
+    public DocumentTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,308 @@
+package com.facilityassist.service;
+
+import com.facilityassist.dto.DocumentResponse;
+import com.facilityassist.repository.DocumentContentRepository;
+import com.facilityassist.security.UserPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.fileupload2.core.AbstractFileUpload;
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.core.ParameterParser;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * Streaming upload path for POST /api/documents.
+ *
+ * The multipart body is parsed incrementally instead of being buffered by a multipart resolver
+ * (spring.servlet.multipart is disabled). The file part is piped straight into an inactive
+ * document row on the blob pool while its size and SHA-256 are computed on the fly, so the
+ * content is never held in memory or written to a temp file. Only then is the row activated in
+ * a short transaction on the primary pool, which keeps slow uploads from holding primary
+ * connections. Oversize uploads are rejected from Content-Length before anything is read, or as
+ * soon as the file part crosses the limit. A failed upload deletes its inactive row; rows left
+ * behind by a crash or restart are swept once they are older than the pending max age.
+ */
+@Service
+@Slf4j
+public class DocumentUploadService {
+
+    private static final int MAX_TITLE_LENGTH = 200;
+    private static final int MAX_DESCRIPTION_LENGTH = 1000;
+    private static final int MAX_FIELD_BYTES = 4 * MAX_DESCRIPTION_LENGTH;
+    // Part headers and the title/description fields on top of the file itself
+    private static final long FORM_OVERHEAD_BYTES = 64 * 1024;
+    private static final String DEFAULT_FILE_TYPE = "application/octet-stream";
+
+    private final DocumentContentRepository documentContentRepository;
+    private final DocumentService documentService;
+    private final long maxFileSize;
+
+    @Value("${facility.documents.upload.pending-max-age:6h}")
+    private Duration pendingMaxAge;
+
+    public DocumentUploadService(DocumentContentRepository documentContentRepository,
+                                 DocumentService documentService,
+                                 @Value("${facility.documents.upload.max-file-size:10MB}") DataSize maxFileSize) {
+        this.documentContentRepository = documentContentRepository;
+        this.documentService = documentService;
+        this.maxFileSize = maxFileSize.toBytes();
+    }
+
+    /**
+     * Delete inactive document rows of uploads that never completed
+     */
+    @Scheduled(fixedDelayString = "${facility.documents.upload.sweep-interval-ms:3600000}")
+    public void sweepAbandonedUploads() {
+        try {
+            int deleted = documentContentRepository.deleteStalePending(LocalDateTime.now().minus(pendingMaxAge));
+            if (deleted > 0) {
+                log.info("Deleted {} abandoned uploads older than {}", deleted, pendingMaxAge);
+            }
+        } catch (Exception e) {
+            log.error("Error deleting abandoned uploads", e);
+        }
+    }
+
+    /**
+     * Parse a multipart/form-data upload with the fields title, description and file
+     * @param request servlet request whose body has not been read yet
+     * @return DocumentResponse of the uploaded document
+     * @throws DocumentTooLargeException if the file exceeds the maximum size
+     * @throws IllegalArgumentException if a field is missing or invalid
+     */
+    public DocumentResponse upload(HttpServletRequest request) throws IOException {
+        return upload(request, null);
+    }
+
+    /**
+     * Parse a multipart/form-data upload of a new version of a document. The title and
+     * description fields are optional and default to those of the previous version.
+     * @param request servlet request whose body has not been read yet
+     * @param parentId ID of any version of the document, or null for a new document
+     * @return DocumentResponse of the uploaded version
+     * @throws DocumentTooLargeException if the file exceeds the maximum size
+     * @throws IllegalArgumentException if a field is missing or invalid, or the document does not exist
+     * @throws IllegalStateException if another version was uploaded at the same time
+     */
+    public DocumentResponse upload(HttpServletRequest request, Long parentId) throws IOException {
+        if (!JakartaServletFileUpload.isMultipartContent(request)) {
+            throw new IllegalArgumentException("multipart/form-data 요청이어야 합니다.");
+        }
+        if (request.getContentLengthLong() > maxFileSize + FORM_OVERHEAD_BYTES) {
+            throw new DocumentTooLargeException(tooLargeMessage());
+        }
+        if (parentId != null && !documentService.canAddVersion(parentId)) {
+            // Checked again on activation; this only saves reading the body
+            throw new IllegalArgumentException("원본 문서를 찾을 수 없습니다.");
+        }
+        Long uploaderId = currentUserId();
+
+        JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory> upload = new JakartaServletFileUpload<>();
+        upload.setHeaderCharset(StandardCharsets.UTF_8);
+
+        String title = null;
+        String description = null;
+        Long documentId = null;
+        ContentMeter meter = null;
+
+        try {
+            FileItemInputIterator items = upload.getItemIterator(request);
+            while (items.hasNext()) {
+                FileItemInput item = items.next();
+                String field = item.getFieldName();
+
+                if (item.isFormField()) {
+                    if ("title".equals(field)) {
+                        title = readField(item);
+                    } else if ("description".equals(field)) {
+                        description = readField(item);
+                    }
+                } else if ("file".equals(field) && documentId == null) {
+                    meter = new ContentMeter(item.getInputStream(), maxFileSize);
+                    documentId = storeContent(item, uploaderId, meter);
+                }
+            }
+
+            if (documentId == null) {
+                throw new IllegalArgumentException("파일은 필수입니다.");
+            }
+            if (meter.getCount() == 0) {
+                throw new IllegalArgumentException("파일이 비어있습니다.");
+            }
+            if (title == null || title.isBlank()) {
+                if (parentId == null) {
+                    throw new IllegalArgumentException("제목은 필수입니다.");
+                }
+                title = null;
+            }
+            if (title != null && title.length() > MAX_TITLE_LENGTH) {
+                throw new IllegalArgumentException("제목은 200자를 초과할 수 없습니다.");
+            }
+            if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+                throw new IllegalArgumentException("설명은 1000자를 초과할 수 없습니다.");
+            }
+
+            DocumentResponse response = documentService.activateUpload(
+                documentId, parentId, title, description == null || description.isBlank() ? null : description,
+                meter.getCount(), meter.getChecksum());
+            documentId = null;
+            return response;
+
+        } finally {
+            if (documentId != null) {
+                // Never activated: rejected, invalid or interrupted
+                documentContentRepository.deletePending(documentId);
+            }
+        }
+    }
+
+    private Long storeContent(FileItemInput item, Long uploaderId, ContentMeter meter) {
+        try {
+            return documentContentRepository.insertPending(
+                fileName(submittedFileName(item)),
+                item.getContentType() != null ? item.getContentType() : DEFAULT_FILE_TYPE,
+                uploaderId,
+                meter);
+        } catch (RuntimeException e) {
+            // The driver wraps the limit error raised while it reads the stream
+            if (meter.isLimitExceeded()) {
+                throw new DocumentTooLargeException(tooLargeMessage());
+            }
+            throw e;
+        }
+    }
+
+    private String readField(FileItemInput item) throws IOException {
+        try (InputStream in = item.getInputStream()) {
+            byte[] value = in.readNBytes(MAX_FIELD_BYTES + 1);
+            if (value.length > MAX_FIELD_BYTES) {
+                throw new IllegalArgumentException("입력값이 너무 깁니다: " + item.getFieldName());
+            }
+            return new String(value, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * File name parameter of the part's Content-Disposition header. FileItemInput.getName()
+     * validates the name through Paths.get, which rejects non-ASCII names when the JVM runs
+     * under a POSIX locale; the name is only stored, never used as a path.
+     */
+    private String submittedFileName(FileItemInput item) {
+        String disposition = item.getHeaders().getHeader(AbstractFileUpload.CONTENT_DISPOSITION);
+        if (disposition == null) {
+            return null;
+        }
+        ParameterParser parser = new ParameterParser();
+        parser.setLowerCaseNames(true);
+        return parser.parse(disposition, new char[] {';', ','}).get("filename");
+    }
+
+    /**
+     * Last path segment of the submitted file name; some clients send a full local path
+     */
+    private String fileName(String submitted) {
+        if (submitted == null || submitted.isBlank()) {
+            return "unnamed";
+        }
+        int slash = Math.max(submitted.lastIndexOf('/'), submitted.lastIndexOf('\\'));
+        return submitted.substring(slash + 1);
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            throw new RuntimeException("인증되지 않은 사용자입니다.");
+        }
+        return principal.getId();
+    }
+
+    private String tooLargeMessage() {
+        return "파일 크기는 " + DataSize.ofBytes(maxFileSize).toMegabytes() + "MB를 초과할 수 없습니다.";
+    }
+
+    /**
+     * Counts and hashes the bytes read through it, and fails the read once the limit is crossed
+     */
+    static final class ContentMeter extends FilterInputStream {
+        private final MessageDigest digest;
+        private final long limit;
+        private long count;
+        private boolean limitExceeded;
+
+        ContentMeter(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                digest.update((byte) b);
+                advance(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                digest.update(b, off, n);
+                advance(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // Skipped bytes must still be counted and hashed
+            int read = read(new byte[(int) Math.min(Math.max(n, 0), 8192)]);
+            return Math.max(read, 0);
+        }
+
+        private void advance(long n) throws IOException {
+            count += n;
+            if (count > limit) {
+                limitExceeded = true;
+                throw new IOException("File exceeds " + limit + " bytes");
+            }
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        boolean isLimitExceeded() {
+            return limitExceeded;
+        }
+
+        String getChecksum() {
+            return HexFormat.of().formatHex(digest.digest());
+        }
+    }
+}
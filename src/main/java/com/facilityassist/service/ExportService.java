@@ -0,0 +1,274 @@
+package com.facilityassist.service;
+
+import com.facilityassist.repository.ExportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Writes notices, documents and task assignments as CSV or XLSX.
+ *
+ * Rows go from the export cursor straight into the writer, so an export holds one row (plus the
+ * writer's buffer) in memory however many rows there are. CSV is written to the response as it
+ * goes. XLSX is written with SXSSF, which keeps a small window of rows in memory and spills the
+ * rest to a compressed temp file until the workbook is written out at the end.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportService {
+
+    /**
+     * Exportable data sets
+     */
+    public enum Dataset {
+        NOTICES("notices", ExportRepository.NOTICE_COLUMNS),
+        DOCUMENTS("documents", ExportRepository.DOCUMENT_COLUMNS),
+        ASSIGNMENTS("assignments", ExportRepository.ASSIGNMENT_COLUMNS);
+
+        private final String name;
+        private final List<String> columns;
+
+        Dataset(String name, List<String> columns) {
+            this.name = name;
+            this.columns = columns;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public static Optional<Dataset> fromName(String name) {
+            for (Dataset dataset : values()) {
+                if (dataset.name.equalsIgnoreCase(name)) {
+                    return Optional.of(dataset);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Supported file formats
+     */
+    public enum Format {
+        CSV("csv", "text/csv;charset=UTF-8"),
+        XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+        private final String extension;
+        private final String contentType;
+
+        Format(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public static Optional<Format> fromName(String name) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(name)) {
+                    return Optional.of(format);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // Excel limits
+    private static final int XLSX_MAX_ROWS = 1_048_576;
+    private static final int XLSX_MAX_CELL_LENGTH = 32_767;
+    private static final int XLSX_ROW_WINDOW = 100;
+
+    private final ExportRepository exportRepository;
+
+    /**
+     * Write a data set in the given format
+     * @param dataset data set to export
+     * @param format file format
+     * @param out stream to write the file to; left open
+     * @return number of data rows written
+     */
+    public long export(Dataset dataset, Format format, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        long rows;
+        try {
+            rows = switch (format) {
+                case CSV -> writeCsv(dataset, out);
+                case XLSX -> writeXlsx(dataset, out);
+            };
+        } catch (UncheckedIOException e) {
+            // Usually the client going away mid-export
+            throw e.getCause();
+        }
+        log.info("Exported {} {} rows as {} in {} ms",
+            rows, dataset.getName(), format.getExtension(), System.currentTimeMillis() - start);
+        return rows;
+    }
+
+    private long writeCsv(Dataset dataset, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        // BOM so that Excel opens the Korean headers as UTF-8
+        writer.write('\uFEFF');
+        writeCsvRow(writer, dataset.columns.toArray());
+
+        long[] rows = new long[1];
+        stream(dataset, row -> {
+            try {
+                writeCsvRow(writer, row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rows[0]++;
+        });
+        writer.flush();
+        return rows[0];
+    }
+
+    private void writeCsvRow(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 quoting, with text that a spreadsheet would evaluate as a formula prefixed by '
+     */
+    String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Number) {
+            return value.toString();
+        }
+        String text = format(value);
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    private long writeXlsx(Dataset dataset, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            CellStyle headerStyle = workbook.createCellStyle();
+            var headerFont = workbook.createFont();
+            headerFont.setBold(true);
+            headerStyle.setFont(headerFont);
+
+            XlsxCursor cursor = new XlsxCursor(workbook, dataset, headerStyle);
+            stream(dataset, cursor::writeRow);
+
+            workbook.write(out);
+            out.flush();
+            return cursor.rows;
+        } finally {
+            // Deletes the temp files backing the flushed rows
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private void stream(Dataset dataset, Consumer<Object[]> rowConsumer) {
+        switch (dataset) {
+            case NOTICES -> exportRepository.streamNotices(rowConsumer);
+            case DOCUMENTS -> exportRepository.streamDocuments(rowConsumer);
+            case ASSIGNMENTS -> exportRepository.streamAssignments(rowConsumer);
+        }
+    }
+
+    private static String format(Object value) {
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.format(DATE_TIME_FORMAT);
+        }
+        return value.toString();
+    }
+
+    /**
+     * Appends rows to the current sheet, starting a new sheet when Excel's row limit is reached
+     */
+    private static final class XlsxCursor {
+        private final SXSSFWorkbook workbook;
+        private final Dataset dataset;
+        private final CellStyle headerStyle;
+        private Sheet sheet;
+        private int sheetRow;
+        private long rows;
+
+        XlsxCursor(SXSSFWorkbook workbook, Dataset dataset, CellStyle headerStyle) {
+            this.workbook = workbook;
+            this.dataset = dataset;
+            this.headerStyle = headerStyle;
+            newSheet();
+        }
+
+        void writeRow(Object[] values) {
+            if (sheetRow == XLSX_MAX_ROWS) {
+                newSheet();
+            }
+            Row row = sheet.createRow(sheetRow++);
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                if (value == null) {
+                    continue;
+                }
+                Cell cell = row.createCell(i);
+                if (value instanceof Number number) {
+                    cell.setCellValue(number.doubleValue());
+                } else {
+                    String text = format(value);
+                    cell.setCellValue(text.length() > XLSX_MAX_CELL_LENGTH ? text.substring(0, XLSX_MAX_CELL_LENGTH) : text);
+                }
+            }
+            rows++;
+        }
+
+        private void newSheet() {
+            int index = workbook.getNumberOfSheets();
+            String name = dataset.getName().toLowerCase(Locale.ROOT) + (index == 0 ? "" : " (" + (index + 1) + ")");
+            sheet = workbook.createSheet(name);
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < dataset.columns.size(); i++) {
+                Cell cell = header.createCell(i);
+                cell.setCellValue(dataset.columns.get(i));
+                cell.setCellStyle(headerStyle);
+            }
+            sheetRow = 1;
+        }
+    }
+}
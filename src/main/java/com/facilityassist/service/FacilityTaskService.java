@@ -0,0 +1,112 @@
+package com.facilityassist.service;
+
+import com.facilityassist.dto.FacilityTaskRequest;
+import com.facilityassist.dto.FacilityTaskResponse;
+import com.facilityassist.event.FacilityTaskChangedEvent;
+import com.facilityassist.model.Assignment;
+import com.facilityassist.model.FacilityTask;
+import com.facilityassist.model.Unit;
+import com.facilityassist.repository.FacilityTaskRepository;
+import com.facilityassist.repository.UnitRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Service for facility task operations
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FacilityTaskService {
+
+    private final FacilityTaskRepository facilityTaskRepository;
+    private final UnitRepository unitRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Create a new facility task and assign it to units
+     * @param request FacilityTaskRequest containing dates, info and unit IDs
+     * @return FacilityTaskResponse of the created task
+     */
+    @Transactional
+    public FacilityTaskResponse createTask(FacilityTaskRequest request) {
+        try {
+            log.info("Creating new facility task ending at: {}", request.getEndDate());
+
+            FacilityTask task = FacilityTask.builder()
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .info(request.getInfo())
+                .build();
+
+            if (request.getUnitIds() != null) {
+                for (Unit unit : unitRepository.findAllById(request.getUnitIds())) {
+                    task.getAssignments().add(Assignment.builder()
+                        .facilityTask(task)
+                        .unit(unit)
+                        .build());
+                }
+            }
+
+            FacilityTask savedTask = facilityTaskRepository.save(task);
+            eventPublisher.publishEvent(new FacilityTaskChangedEvent(savedTask.getId(), savedTask.getEndDate()));
+            log.info("Successfully created facility task with ID: {}", savedTask.getId());
+
+            return convertToFacilityTaskResponse(savedTask);
+
+        } catch (Exception e) {
+            log.error("Error creating facility task", e);
+            throw new RuntimeException("작업 생성 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * Update the dates and info of a facility task
+     * @param id facility task ID
+     * @param request FacilityTaskRequest containing the new dates and info
+     * @return FacilityTaskResponse of the updated task
+     */
+    @Transactional
+    public Optional<FacilityTaskResponse> updateTask(Long id, FacilityTaskRequest request) {
+        try {
+            log.info("Updating facility task with ID: {}", id);
+
+            return facilityTaskRepository.findById(id)
+                .map(task -> {
+                    task.setStartDate(request.getStartDate());
+                    task.setEndDate(request.getEndDate());
+                    task.setInfo(request.getInfo());
+                    eventPublisher.publishEvent(new FacilityTaskChangedEvent(task.getId(), task.getEndDate()));
+                    return convertToFacilityTaskResponse(task);
+                });
+
+        } catch (Exception e) {
+            log.error("Error updating facility task: {}", id, e);
+            throw new RuntimeException("작업 수정 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * Convert FacilityTask entity to FacilityTaskResponse
+     * @param task FacilityTask entity
+     * @return FacilityTaskResponse
+     */
+    private FacilityTaskResponse convertToFacilityTaskResponse(FacilityTask task) {
+        return FacilityTaskResponse.builder()
+            .id(task.getId())
+            .startDate(task.getStartDate())
+            .endDate(task.getEndDate())
+            .info(task.getInfo())
+            .unitIds(task.getAssignments().stream()
+                .map(assignment -> assignment.getUnit().getId())
+                .collect(Collectors.toList()))
+            .createdAt(task.getCreatedAt())
+            .build();
+    }
+}
@@ -0,0 +1,262 @@
+package com.facilityassist.service;
+
+import com.facilityassist.dto.NoticeReadStatsResponse;
+import com.facilityassist.event.NoticeCreatedEvent;
+import com.facilityassist.model.NoticeReadState;
+import com.facilityassist.model.UserRole;
+import com.facilityassist.repository.NoticeReadStateRepository;
+import com.facilityassist.repository.NoticeRepository;
+import com.facilityassist.repository.UserRepository;
+import com.facilityassist.security.UserPrincipal;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Service tracking which managers have read each notice.
+ *
+ * Readers of a notice are kept in memory as a Roaring bitmap of user IDs, alongside a per-user
+ * read counter, so unread counts and read ratios never touch the database. Changed bitmaps are
+ * written behind to NOTICE_READ_STATE on a fixed delay and on shutdown. New notices are registered
+ * once the transaction that created them has committed, so a rolled-back notice is never counted
+ * as unread. The manager count used for read ratios is refreshed on its own schedule.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NoticeReadService {
+
+    private final NoticeReadStateRepository noticeReadStateRepository;
+    private final NoticeRepository noticeRepository;
+    private final UserRepository userRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<Long> dirtyNoticeIds = ConcurrentHashMap.newKeySet();
+
+    // Guarded by lock
+    private final Map<Long, RoaringBitmap> readers = new HashMap<>();
+    private final Map<Long, Integer> readCountByUser = new HashMap<>();
+
+    private volatile int managerCount;
+
+    /**
+     * Load the persisted bitmaps of all notices
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Long> noticeIds = noticeRepository.findAllIds();
+        List<NoticeReadState> states = noticeReadStateRepository.findAll();
+
+        lock.writeLock().lock();
+        try {
+            readers.clear();
+            readCountByUser.clear();
+            for (Long noticeId : noticeIds) {
+                readers.put(noticeId, new RoaringBitmap());
+            }
+            for (NoticeReadState state : states) {
+                RoaringBitmap bitmap = deserialize(state.getReaderBitmap());
+                readers.put(state.getNoticeId(), bitmap);
+                bitmap.forEach((int userId) -> readCountByUser.merge((long) userId, 1, Integer::sum));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        refreshManagerCount();
+        log.info("Loaded read state for {} notices", noticeIds.size());
+    }
+
+    /**
+     * Register a notice once the transaction that created it has committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNoticeCreated(NoticeCreatedEvent event) {
+        registerNotice(event.noticeId());
+    }
+
+    /**
+     * Register a newly created notice with no readers
+     * @param noticeId notice ID
+     */
+    public void registerNotice(Long noticeId) {
+        lock.writeLock().lock();
+        try {
+            readers.putIfAbsent(noticeId, new RoaringBitmap());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Record that the current user has read a notice. Only managers are tracked.
+     * @param noticeId notice ID
+     */
+    public void recordRead(Long noticeId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal userPrincipal)) {
+            return;
+        }
+        if (userPrincipal.getRole() != UserRole.MANAGER) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            RoaringBitmap bitmap = readers.computeIfAbsent(noticeId, id -> new RoaringBitmap());
+            if (bitmap.checkedAdd(Math.toIntExact(userPrincipal.getId()))) {
+                readCountByUser.merge(userPrincipal.getId(), 1, Integer::sum);
+                dirtyNoticeIds.add(noticeId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get the number of notices the current user has not read
+     * @return unread notice count, or empty if there is no authenticated user
+     */
+    public Optional<Integer> getUnreadCountForCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal userPrincipal)) {
+            return Optional.empty();
+        }
+        return Optional.of(getUnreadCount(userPrincipal.getId()));
+    }
+
+    /**
+     * Get the number of notices the given user has not read
+     * @param userId user ID
+     * @return unread notice count
+     */
+    public int getUnreadCount(Long userId) {
+        lock.readLock().lock();
+        try {
+            return readers.size() - readCountByUser.getOrDefault(userId, 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the read statistics of a notice
+     * @param noticeId notice ID
+     * @return NoticeReadStatsResponse, or empty if the notice is unknown
+     */
+    public Optional<NoticeReadStatsResponse> getReadStats(Long noticeId) {
+        int readCount;
+        lock.readLock().lock();
+        try {
+            RoaringBitmap bitmap = readers.get(noticeId);
+            if (bitmap == null) {
+                return Optional.empty();
+            }
+            readCount = bitmap.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int managers = managerCount;
+        return Optional.of(NoticeReadStatsResponse.builder()
+            .noticeId(noticeId)
+            .readCount(readCount)
+            .managerCount(managers)
+            .readRatio(managers > 0 ? (double) readCount / managers : 0.0)
+            .build());
+    }
+
+    /**
+     * Write the bitmaps changed since the last flush to the database
+     */
+    @Scheduled(fixedDelayString = "${facility.notice-read.flush-interval-ms:5000}")
+    public void flush() {
+        if (dirtyNoticeIds.isEmpty()) {
+            return;
+        }
+
+        List<NoticeReadState> states = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long noticeId : dirtyNoticeIds) {
+                dirtyNoticeIds.remove(noticeId);
+                RoaringBitmap bitmap = readers.get(noticeId);
+                states.add(NoticeReadState.builder()
+                    .noticeId(noticeId)
+                    .readerBitmap(serialize(bitmap))
+                    .readCount(bitmap.getCardinality())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try {
+            noticeReadStateRepository.upsertAll(states);
+            log.debug("Flushed read state for {} notices", states.size());
+        } catch (Exception e) {
+            log.error("Error flushing notice read state", e);
+            states.forEach(state -> dirtyNoticeIds.add(state.getNoticeId()));
+        }
+    }
+
+    /**
+     * Refresh the number of managers that read ratios are computed against
+     */
+    @Scheduled(fixedDelayString = "${facility.notice-read.manager-count-refresh-ms:60000}")
+    public void refreshManagerCount() {
+        managerCount = (int) userRepository.countByRole(UserRole.MANAGER);
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private byte[] serialize(RoaringBitmap bitmap) {
+        RoaringBitmap copy = bitmap.clone();
+        copy.runOptimize();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(copy.serializedSizeInBytes());
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            copy.serialize(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private RoaringBitmap deserialize(byte[] data) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            bitmap.deserialize(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bitmap;
+    }
+}
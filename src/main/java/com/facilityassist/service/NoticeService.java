@@ -3,13 +3,17 @@ package com.facilityassist.service;
 import com.facilityassist.dto.CreateNoticeRequest;
 import com.facilityassist.dto.NoticeListResponse;
 import com.facilityassist.dto.NoticeResponse;
+import com.facilityassist.event.NoticeCreatedEvent;
 import com.facilityassist.model.Notice;
 import com.facilityassist.model.User;
+import com.facilityassist.repository.ExportRepository;
 import com.facilityassist.repository.NoticeRepository;
 import com.facilityassist.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -20,18 +24,24 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * Service for notice-related operations
  */
 @Service
+@Timed(value = "facility.service", histogram = true)
 @RequiredArgsConstructor
 @Slf4j
 public class NoticeService {
     
     private final NoticeRepository noticeRepository;
     private final UserRepository userRepository;
+    private final ExportRepository exportRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RequestCoalescer requestCoalescer;
+    private final StatisticsService statisticsService;
     private final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     
     /**
@@ -41,11 +51,18 @@ public class NoticeService {
      * @return NoticeListResponse with paginated notices
      */
     public NoticeListResponse getRecentNotices(int page, int size) {
+        // Dashboards opened at the same moment share one query per page
+        return requestCoalescer.execute("recent-notices", page + ":" + size, () -> loadRecentNotices(page, size));
+    }
+    
+    private NoticeListResponse loadRecentNotices(int page, int size) {
         try {
             log.debug("Getting recent notices - page: {}, size: {}", page, size);
             
+            // Totals come from the maintained counters instead of a count query
+            long totalCount = statisticsService.getNoticeCount();
             Pageable pageable = PageRequest.of(page, size);
-            Page<Notice> noticePage = noticeRepository.findAllOrderByCreatedAtDesc(pageable);
+            Slice<Notice> noticePage = noticeRepository.findAllOrderByCreatedAtDesc(pageable);
             
             List<NoticeResponse.NoticeSummary> noticeSummaries = noticePage.getContent()
                 .stream()
@@ -54,9 +71,9 @@ public class NoticeService {
             
             return NoticeListResponse.builder()
                 .notices(noticeSummaries)
-                .totalCount((int) noticePage.getTotalElements())
+                .totalCount((int) totalCount)
                 .currentPage(page + 1) // Convert to 1-based page number
-                .totalPages(noticePage.getTotalPages())
+                .totalPages((int) ((totalCount + size - 1) / size))
                 .hasNext(noticePage.hasNext())
                 .hasPrevious(noticePage.hasPrevious())
                 .build();
@@ -104,6 +121,42 @@ public class NoticeService {
         }
     }
     
+    /**
+     * Stream all notices as summaries, newest first, reading them from a forward-only cursor on the
+     * blob pool so that a slow client holds no main pool connection or transaction
+     * @param consumer receives each summary as it is read
+     * @return number of notices streamed
+     */
+    public long streamAllNotices(Consumer<NoticeResponse.NoticeSummary> consumer) {
+        log.debug("Streaming all notices");
+        
+        long[] count = new long[1];
+        exportRepository.streamNoticeSummaries(row -> {
+            consumer.accept(NoticeResponse.NoticeSummary.builder()
+                .id(row.id())
+                .title(row.title())
+                .authorName(row.authorName())
+                .createdAt(row.createdAt())
+                .formattedDate(row.createdAt().format(dateFormatter))
+                .build());
+            count[0]++;
+        });
+        return count[0];
+    }
+    
+    /**
+     * Get a weak ETag for the full notice list without loading any notice
+     * @return weak ETag derived from the notice count and latest creation time
+     */
+    public String getAllNoticesETag() {
+        try {
+            return noticeRepository.findListVersion().toWeakETag("notices");
+        } catch (Exception e) {
+            log.error("Error getting notice list version", e);
+            throw new RuntimeException("공지사항을 가져오는 중 오류가 발생했습니다.", e);
+        }
+    }
+    
     /**
      * Create a new notice
      * @param request CreateNoticeRequest containing title and content
@@ -133,6 +186,9 @@ public class NoticeService {
             
             // Save notice
             Notice savedNotice = noticeRepository.save(notice);
+            eventPublisher.publishEvent(new NoticeCreatedEvent(
+                savedNotice.getId(), savedNotice.getTitle(), currentUser.getName(), savedNotice.getCreatedAt(),
+                currentUser.getUnit() != null ? currentUser.getUnit().getId() : null));
             log.info("Successfully created notice with ID: {}", savedNotice.getId());
             
             // Convert to response
@@ -166,7 +222,7 @@ public class NoticeService {
      * @param notice Notice entity
      * @return NoticeSummary
      */
-    private NoticeResponse.NoticeSummary convertToNoticeSummary(Notice notice) {
+    NoticeResponse.NoticeSummary convertToNoticeSummary(Notice notice) {
         return NoticeResponse.NoticeSummary.builder()
             .id(notice.getId())
             .title(notice.getTitle())
@@ -0,0 +1,197 @@
+package com.facilityassist.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Size-bounded LRU cache of document previews on local disk.
+ *
+ * Each entry is one file named after its key. The index of entries and their sizes is kept in
+ * memory in access order and rebuilt from the directory on startup, oldest file first, so the
+ * cache survives restarts. When the total size goes over the limit the least recently used files
+ * are deleted. An empty entry records that a document has no preview, so it is not rendered
+ * again on every request.
+ */
+@Component
+@Slf4j
+public class PreviewCache {
+
+    private static final String SUFFIX = ".preview";
+    // Every file takes at least a block on disk, empty ones included
+    private static final long MIN_ENTRY_BYTES = 4096;
+
+    private final Path directory;
+    private final long maxBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    public PreviewCache(@Value("${facility.preview.cache-dir:${java.io.tmpdir}/facility-previews}") Path directory,
+                        @Value("${facility.preview.cache-max-size:256MB}") DataSize maxSize) {
+        this.directory = directory;
+        this.maxBytes = maxSize.toBytes();
+        try {
+            Files.createDirectories(directory);
+            load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open preview cache directory " + directory, e);
+        }
+    }
+
+    /**
+     * Get a cached preview
+     * @param key cache key
+     * @return the preview bytes, empty if the document has no preview, or Optional.empty() on a miss
+     */
+    public Optional<byte[]> get(String key) {
+        lock.lock();
+        try {
+            if (entries.get(key) == null) {
+                return Optional.empty();
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            return Optional.of(Files.readAllBytes(path(key)));
+        } catch (NoSuchFileException e) {
+            // Evicted in the meantime
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("Cannot read cached preview {}: {}", key, e.toString());
+            remove(key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Store a preview, evicting least recently used entries to stay within the size limit
+     * @param key cache key
+     * @param preview preview bytes, empty to record that there is no preview
+     */
+    public void put(String key, byte[] preview) throws IOException {
+        Path target = path(key);
+        Path temp = Files.createTempFile(directory, "write-", ".tmp");
+        try {
+            Files.write(temp, preview);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        List<String> evicted = new ArrayList<>();
+        lock.lock();
+        try {
+            Long previous = entries.put(key, entrySize(preview.length));
+            totalBytes += entrySize(preview.length) - (previous != null ? previous : 0);
+            Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                Map.Entry<String, Long> entry = eldest.next();
+                if (entry.getKey().equals(key)) {
+                    continue;
+                }
+                totalBytes -= entry.getValue();
+                evicted.add(entry.getKey());
+                eldest.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (String evictedKey : evicted) {
+            Files.deleteIfExists(path(evictedKey));
+        }
+        if (!evicted.isEmpty()) {
+            log.debug("Evicted {} previews from the cache", evicted.size());
+        }
+    }
+
+    /**
+     * Get the total size of the cached previews
+     * @return size in bytes, counting each entry as at least one disk block
+     */
+    public long getSizeBytes() {
+        lock.lock();
+        try {
+            return totalBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of cached previews
+     * @return entry count
+     */
+    public int getEntryCount() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(String key) {
+        lock.lock();
+        try {
+            Long size = entries.remove(key);
+            if (size != null) {
+                totalBytes -= size;
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            Files.deleteIfExists(path(key));
+        } catch (IOException e) {
+            log.warn("Cannot delete cached preview {}: {}", key, e.toString());
+        }
+    }
+
+    private void load() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                if (file.getFileName().toString().endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                } else if (file.getFileName().toString().endsWith(SUFFIX)) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort(Comparator.comparing(file -> file.toFile().lastModified()));
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long size = entrySize(Files.size(file));
+            entries.put(name.substring(0, name.length() - SUFFIX.length()), size);
+            totalBytes += size;
+        }
+        log.info("Preview cache at {} holds {} previews ({} bytes)", directory, entries.size(), totalBytes);
+    }
+
+    private Path path(String key) {
+        return directory.resolve(key + SUFFIX);
+    }
+
+    private static long entrySize(long bytes) {
+        return Math.max(bytes, MIN_ENTRY_BYTES);
+    }
+}
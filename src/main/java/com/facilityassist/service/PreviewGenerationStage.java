@@ -0,0 +1,27 @@
+package com.facilityassist.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renders the preview of a new image or PDF document into the preview cache. Runs after content
+ * type sniffing and checksum verification, so it sees the corrected type and the final checksum.
+ */
+@Component
+@Order(300)
+@RequiredArgsConstructor
+public class PreviewGenerationStage implements DocumentProcessingStage {
+
+    private final PreviewService previewService;
+
+    @Override
+    public String getName() {
+        return "preview";
+    }
+
+    @Override
+    public void process(Long documentId) throws Exception {
+        previewService.render(documentId);
+    }
+}
@@ -0,0 +1,315 @@
+package com.facilityassist.service;
+
+import com.facilityassist.model.ProcessingStatus;
+import com.facilityassist.repository.DocumentContentRepository;
+import com.facilityassist.repository.DocumentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Small JPEG previews of image and PDF documents: the image scaled down, or the first page of
+ * the PDF rendered at the preview size.
+ *
+ * Previews are rendered off the request path, by the processing pipeline after an upload, and are
+ * kept in the PreviewCache under the document ID and content checksum. A request that misses the
+ * cache (a document stored before previews existed, or a preview evicted since) queues the
+ * rendering on a small bounded pool and is told to retry, so a list of previews never renders
+ * anything inline. Content that cannot be decoded is cached as having no preview.
+ */
+@Service
+@Slf4j
+public class PreviewService {
+
+    public static final String MEDIA_TYPE = "image/jpeg";
+
+    private static final Set<String> IMAGE_TYPES = Set.of("image/png", "image/jpeg", "image/gif", "image/bmp");
+    private static final String PDF_TYPE = "application/pdf";
+    private static final float JPEG_QUALITY = 0.8f;
+
+    /**
+     * Outcome of a preview lookup
+     */
+    public enum State {
+        READY,        // Preview available
+        PENDING,      // Being rendered; retry later
+        UNAVAILABLE   // No such document, or it has no preview
+    }
+
+    /**
+     * Result of a preview lookup
+     * @param state lookup outcome
+     * @param content JPEG bytes when READY
+     * @param eTag strong ETag of the preview when READY
+     */
+    public record Preview(State state, byte[] content, String eTag) {
+        static final Preview PENDING = new Preview(State.PENDING, null, null);
+        static final Preview UNAVAILABLE = new Preview(State.UNAVAILABLE, null, null);
+    }
+
+    private final DocumentRepository documentRepository;
+    private final DocumentContentRepository documentContentRepository;
+    private final PreviewCache previewCache;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor pool;
+    // Documents queued for rendering, so repeated misses do not queue them again
+    private final Set<Long> queuedDocuments = ConcurrentHashMap.newKeySet();
+
+    @Value("${facility.preview.size:320}")
+    private int previewSize;
+
+    public PreviewService(DocumentRepository documentRepository,
+                          DocumentContentRepository documentContentRepository,
+                          PreviewCache previewCache,
+                          MeterRegistry meterRegistry,
+                          @Value("${facility.preview.threads:1}") int threads,
+                          @Value("${facility.preview.queue-capacity:50}") int queueCapacity) {
+        this.documentRepository = documentRepository;
+        this.documentContentRepository = documentContentRepository;
+        this.previewCache = previewCache;
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "document-preview-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Get the preview of a document, queueing its rendering on a cache miss
+     * @param documentId document ID
+     * @return the preview, or whether to retry later
+     */
+    public Preview getPreview(Long documentId) {
+        Optional<DocumentRepository.DocumentPreviewInfo> found = documentRepository.findPreviewInfoById(documentId);
+        if (found.isEmpty() || !isPreviewable(found.get().getFileType())) {
+            return Preview.UNAVAILABLE;
+        }
+        DocumentRepository.DocumentPreviewInfo info = found.get();
+        String key = cacheKey(info.getId(), info.getChecksum());
+
+        Optional<byte[]> cached = previewCache.get(key);
+        meterRegistry.counter("facility.preview.cache.requests", "result", cached.isPresent() ? "hit" : "miss").increment();
+        if (cached.isPresent()) {
+            byte[] content = cached.get();
+            return content.length == 0 ? Preview.UNAVAILABLE : new Preview(State.READY, content, "\"" + key + "\"");
+        }
+
+        ProcessingStatus status = info.getProcessingStatus();
+        if (status != ProcessingStatus.PENDING && status != ProcessingStatus.PROCESSING) {
+            // The pipeline will not render it; do it here
+            requestRendering(documentId);
+        }
+        return Preview.PENDING;
+    }
+
+    /**
+     * Render and cache the preview of a document unless it is cached already
+     * @param documentId document ID
+     */
+    public void render(Long documentId) throws IOException {
+        Optional<DocumentRepository.DocumentPreviewInfo> found = documentRepository.findPreviewInfoById(documentId);
+        if (found.isEmpty() || !isPreviewable(found.get().getFileType())) {
+            return;
+        }
+        DocumentRepository.DocumentPreviewInfo info = found.get();
+        String key = cacheKey(info.getId(), info.getChecksum());
+        if (previewCache.get(key).isPresent()) {
+            return;
+        }
+
+        Path source = Files.createTempFile("preview-source-", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(source)) {
+                if (!documentContentRepository.copyContent(documentId, out)) {
+                    return;
+                }
+            }
+            long start = System.currentTimeMillis();
+            byte[] preview = renderPreview(source, info.getFileType(), previewSize);
+            previewCache.put(key, preview);
+            log.debug("Rendered {} byte preview of document {} in {} ms",
+                preview.length, documentId, System.currentTimeMillis() - start);
+        } finally {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    /**
+     * Check whether previews are rendered for a content type
+     * @param fileType content type
+     * @return true for the supported image formats and PDF
+     */
+    public static boolean isPreviewable(String fileType) {
+        if (fileType == null) {
+            return false;
+        }
+        String type = fileType.toLowerCase(Locale.ROOT).split(";")[0].trim();
+        return IMAGE_TYPES.contains(type) || type.equals(PDF_TYPE);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private void requestRendering(Long documentId) {
+        if (!queuedDocuments.add(documentId)) {
+            return;
+        }
+        try {
+            pool.execute(() -> {
+                try {
+                    render(documentId);
+                } catch (Exception e) {
+                    log.warn("Error rendering preview of document {}: {}", documentId, e.toString());
+                } finally {
+                    queuedDocuments.remove(documentId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Full; a later request for the preview queues it again
+            queuedDocuments.remove(documentId);
+        }
+    }
+
+    private static String cacheKey(Long documentId, String checksum) {
+        return checksum != null ? documentId + "-" + checksum : documentId.toString();
+    }
+
+    /**
+     * Render a preview of the given content
+     * @param source file holding the document content
+     * @param fileType content type of the document
+     * @param size maximum width and height of the preview
+     * @return JPEG bytes, or an empty array if the content cannot be decoded
+     */
+    static byte[] renderPreview(Path source, String fileType, int size) throws IOException {
+        BufferedImage image;
+        try {
+            image = fileType.toLowerCase(Locale.ROOT).startsWith(PDF_TYPE)
+                ? readPdfFirstPage(source, size)
+                : readImage(source, size);
+        } catch (IOException | RuntimeException e) {
+            log.info("No preview for undecodable content: {}", e.toString());
+            return new byte[0];
+        }
+        if (image == null) {
+            return new byte[0];
+        }
+        return encodeJpeg(scale(image, size));
+    }
+
+    /**
+     * Decode an image, subsampled while reading so that large images are never decoded at full size
+     */
+    private static BufferedImage readImage(Path source, int size) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, longest / (size * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Render the first page of a PDF at about twice the preview size, buffering the file on disk
+     */
+    private static BufferedImage readPdfFirstPage(Path source, int size) throws IOException {
+        try (PDDocument pdf = Loader.loadPDF(source.toFile(), IOUtils.createTempFileOnlyStreamCache())) {
+            if (pdf.getNumberOfPages() == 0) {
+                return null;
+            }
+            PDRectangle box = pdf.getPage(0).getCropBox();
+            float longest = Math.max(box.getWidth(), box.getHeight());
+            float scale = longest > 0 ? Math.min(2f * size / longest, 4f) : 1f;
+            return new PDFRenderer(pdf).renderImage(0, scale, ImageType.RGB);
+        }
+    }
+
+    /**
+     * Scale to fit within size x size, flattening transparency onto white
+     */
+    private static BufferedImage scale(BufferedImage image, int size) {
+        double ratio = Math.min(1.0, (double) size / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(bytes)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+}
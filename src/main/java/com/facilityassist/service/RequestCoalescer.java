@@ -0,0 +1,71 @@
+package com.facilityassist.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution of identical reads.
+ *
+ * The first caller for a key runs the computation on its own thread; callers arriving with the
+ * same key while it is in flight wait for it and receive the same result object, or the same
+ * exception. Nothing is cached: the next caller after completion computes again. Shared results
+ * must therefore be treated as read-only.
+ *
+ * Coalesced callers are counted in facility.coalesced.calls, tagged by name.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestCoalescer {
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Run a computation, or join the identical one already in flight
+     * @param name name of the operation, e.g. "recent-notices"
+     * @param key arguments identifying identical calls
+     * @param supplier the computation
+     * @return the result of the computation this call ran or joined
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Object key, Supplier<T> supplier) {
+        Key flightKey = new Key(name, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            meterRegistry.counter("facility.coalesced.calls", "name", name).increment();
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            T result = supplier.get();
+            flight.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Errors too, or the callers waiting on this flight would never return
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private record Key(String name, Object key) {
+    }
+}
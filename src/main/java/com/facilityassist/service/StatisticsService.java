@@ -0,0 +1,367 @@
+package com.facilityassist.service;
+
+import com.facilityassist.dto.StatsResponse;
+import com.facilityassist.event.DocumentUploadedEvent;
+import com.facilityassist.event.DocumentVersionSupersededEvent;
+import com.facilityassist.event.NoticeCreatedEvent;
+import com.facilityassist.repository.DocumentRepository;
+import com.facilityassist.repository.GroupCount;
+import com.facilityassist.repository.GroupTotal;
+import com.facilityassist.repository.NoticeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory notice and document counters, so list totals and /api/stats never scan a table.
+ *
+ * Write paths publish events that are applied here only after their transaction commits, so a
+ * rolled back write never moves a counter. The counters are rebuilt from grouped queries when the
+ * application is ready and then periodically, which corrects any drift from writes that bypass
+ * the services (bulk JDBC loads, manual SQL). A rebuild replaces the whole snapshot at once.
+ *
+ * The rebuild queries run in one repeatable-read transaction, so they see a single snapshot of
+ * the database. Events that commit while a rebuild is running are applied to the current
+ * snapshot and also recorded. Before the rebuilt counters replace the current ones, the recorded
+ * rows are looked up in that same snapshot, and only the events the rebuild did not see are
+ * replayed, so each commit is counted once.
+ */
+@Service
+@Slf4j
+public class StatisticsService {
+
+    private final NoticeRepository noticeRepository;
+    private final DocumentRepository documentRepository;
+    private final TransactionTemplate rebuildTransaction;
+
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+    // Orders event deltas against the snapshot swap
+    private final ReentrantLock deltaLock = new ReentrantLock();
+
+    private volatile Counters counters;
+    // Events applied while a rebuild runs, or null; guarded by deltaLock
+    private List<RecordedEvent> rebuildEvents;
+
+    public StatisticsService(NoticeRepository noticeRepository,
+                             DocumentRepository documentRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.noticeRepository = noticeRepository;
+        this.documentRepository = documentRepository;
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setReadOnly(true);
+        this.rebuildTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * Rebuild the counters once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    /**
+     * Rebuild the counters from the database and replace the current snapshot
+     */
+    @Scheduled(fixedDelayString = "${facility.stats.reconcile-interval-ms:300000}",
+               initialDelayString = "${facility.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        reconcileLock.lock();
+        deltaLock.lock();
+        try {
+            rebuildEvents = new ArrayList<>();
+        } finally {
+            deltaLock.unlock();
+        }
+        try {
+            // Called from within this class too, so the transaction is not left to a proxy
+            rebuildTransaction.executeWithoutResult(status -> rebuild());
+        } catch (Exception e) {
+            log.error("Error reconciling statistics", e);
+        } finally {
+            deltaLock.lock();
+            try {
+                rebuildEvents = null;
+            } finally {
+                deltaLock.unlock();
+            }
+            reconcileLock.unlock();
+        }
+    }
+
+    private void rebuild() {
+        Counters rebuilt = new Counters(LocalDateTime.now());
+        rebuilt.notices.set(noticeRepository.count());
+        for (GroupCount group : noticeRepository.countByAuthorUnit()) {
+            rebuilt.add(rebuilt.noticesByUnit, group.getGroupId(), group.getRowCount());
+        }
+        for (GroupTotal group : documentRepository.sumActiveByUploader()) {
+            long bytes = group.getTotalBytes() != null ? group.getTotalBytes() : 0L;
+            rebuilt.documents.addAndGet(group.getRowCount());
+            rebuilt.bytes.addAndGet(bytes);
+            rebuilt.add(rebuilt.documentsByUploader, group.getGroupId(), group.getRowCount());
+            rebuilt.add(rebuilt.bytesByUploader, group.getGroupId(), bytes);
+        }
+        for (GroupTotal group : documentRepository.sumActiveByUploaderUnit()) {
+            rebuilt.add(rebuilt.documentsByUnit, group.getGroupId(), group.getRowCount());
+            rebuilt.add(rebuilt.bytesByUnit, group.getGroupId(), group.getTotalBytes() != null ? group.getTotalBytes() : 0L);
+        }
+
+        Counters previous;
+        int replayed = 0;
+        deltaLock.lock();
+        try {
+            // Still in the rebuild transaction, so these lookups see the rebuild's snapshot
+            Set<Long> seenNotices = seen(EventKind.NOTICE_CREATED, noticeRepository::findIdsIn);
+            Set<Long> seenUploads = seen(EventKind.DOCUMENT_UPLOADED, documentRepository::findActiveIdsIn);
+            Set<Long> seenSupersedes = seen(EventKind.VERSION_SUPERSEDED, documentRepository::findSupersededIdsIn);
+            for (RecordedEvent event : rebuildEvents) {
+                Set<Long> seen = switch (event.kind()) {
+                    case NOTICE_CREATED -> seenNotices;
+                    case DOCUMENT_UPLOADED -> seenUploads;
+                    case VERSION_SUPERSEDED -> seenSupersedes;
+                };
+                if (!seen.contains(event.id())) {
+                    event.delta().accept(rebuilt);
+                    replayed++;
+                }
+            }
+            previous = counters;
+            counters = rebuilt;
+        } finally {
+            deltaLock.unlock();
+        }
+        if (replayed > 0) {
+            log.debug("Replayed {} statistics events that committed during the rebuild", replayed);
+        }
+        if (previous != null && (previous.notices.get() != rebuilt.notices.get()
+                || previous.documents.get() != rebuilt.documents.get())) {
+            log.info("Reconciled statistics drifted from {} notices / {} documents to {} / {}",
+                previous.notices.get(), previous.documents.get(), rebuilt.notices.get(), rebuilt.documents.get());
+        }
+    }
+
+    /**
+     * IDs of the recorded events of a kind whose change the rebuild snapshot already contains
+     */
+    private Set<Long> seen(EventKind kind, Function<Collection<Long>, List<Long>> lookup) {
+        List<Long> ids = rebuildEvents.stream()
+            .filter(event -> event.kind() == kind)
+            .map(RecordedEvent::id)
+            .toList();
+        return ids.isEmpty() ? Set.of() : new HashSet<>(lookup.apply(ids));
+    }
+
+    /**
+     * Count a notice once the transaction that created it has committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onNoticeCreated(NoticeCreatedEvent event) {
+        apply(EventKind.NOTICE_CREATED, event.noticeId(), current -> {
+            current.notices.incrementAndGet();
+            current.add(current.noticesByUnit, event.unitId(), 1);
+        });
+    }
+
+    /**
+     * Count a document once the transaction that uploaded it has committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDocumentUploaded(DocumentUploadedEvent event) {
+        long bytes = event.fileSize() != null ? event.fileSize() : 0L;
+        apply(EventKind.DOCUMENT_UPLOADED, event.documentId(), current -> {
+            current.documents.incrementAndGet();
+            current.bytes.addAndGet(bytes);
+            current.add(current.documentsByUploader, event.uploaderId(), 1);
+            current.add(current.bytesByUploader, event.uploaderId(), bytes);
+            current.add(current.documentsByUnit, event.unitId(), 1);
+            current.add(current.bytesByUnit, event.unitId(), bytes);
+        });
+    }
+
+    /**
+     * Stop counting a version once the upload of its successor has committed; only the latest
+     * version of a document is counted
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDocumentVersionSuperseded(DocumentVersionSupersededEvent event) {
+        long bytes = event.fileSize() != null ? event.fileSize() : 0L;
+        apply(EventKind.VERSION_SUPERSEDED, event.documentId(), current -> {
+            current.documents.decrementAndGet();
+            current.bytes.addAndGet(-bytes);
+            current.add(current.documentsByUploader, event.uploaderId(), -1);
+            current.add(current.bytesByUploader, event.uploaderId(), -bytes);
+            current.add(current.documentsByUnit, event.unitId(), -1);
+            current.add(current.bytesByUnit, event.unitId(), -bytes);
+        });
+    }
+
+    /**
+     * Get the total number of notices
+     * @return notice count
+     */
+    public long getNoticeCount() {
+        return counters().notices.get();
+    }
+
+    /**
+     * Get the total number of active documents
+     * @return active document count
+     */
+    public long getActiveDocumentCount() {
+        return counters().documents.get();
+    }
+
+    /**
+     * Get the total size of active documents
+     * @return stored bytes
+     */
+    public long getStoredBytes() {
+        return counters().bytes.get();
+    }
+
+    /**
+     * Get the totals together with the per-unit and per-uploader breakdown
+     * @return StatsResponse built from the current counters
+     */
+    public StatsResponse getStats() {
+        Counters current = counters();
+
+        List<StatsResponse.UnitStats> units = current.unitIds().stream()
+            .map(unitId -> StatsResponse.UnitStats.builder()
+                .unitId(unitId)
+                .notices(value(current.noticesByUnit, unitId))
+                .documents(value(current.documentsByUnit, unitId))
+                .storedBytes(value(current.bytesByUnit, unitId))
+                .build())
+            .sorted(Comparator.comparing(StatsResponse.UnitStats::getUnitId))
+            .collect(Collectors.toList());
+
+        List<StatsResponse.UploaderStats> uploaders = current.documentsByUploader.keySet().stream()
+            .map(uploaderId -> StatsResponse.UploaderStats.builder()
+                .uploaderId(uploaderId)
+                .documents(value(current.documentsByUploader, uploaderId))
+                .storedBytes(value(current.bytesByUploader, uploaderId))
+                .build())
+            .sorted(Comparator.comparing(StatsResponse.UploaderStats::getUploaderId))
+            .collect(Collectors.toList());
+
+        return StatsResponse.builder()
+            .noticeCount(current.notices.get())
+            .activeDocumentCount(current.documents.get())
+            .storedBytes(current.bytes.get())
+            .units(units)
+            .uploaders(uploaders)
+            .reconciledAt(current.reconciledAt)
+            .build();
+    }
+
+    /**
+     * Current snapshot; reconciles first if a request arrives before the application is ready
+     */
+    private Counters counters() {
+        Counters current = counters;
+        if (current == null) {
+            reconcile();
+            current = counters;
+            if (current == null) {
+                throw new IllegalStateException("통계를 불러오지 못했습니다.");
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Apply an event to the current snapshot, and record it for the rebuilt one if a rebuild is running
+     */
+    private void apply(EventKind kind, Long id, Consumer<Counters> delta) {
+        // Initializes the snapshot outside deltaLock, which reconcile() takes after reconcileLock
+        counters();
+        deltaLock.lock();
+        try {
+            delta.accept(counters);
+            if (rebuildEvents != null) {
+                rebuildEvents.add(new RecordedEvent(kind, id, delta));
+            }
+        } finally {
+            deltaLock.unlock();
+        }
+    }
+
+    private static long value(Map<Long, AtomicLong> map, Long key) {
+        AtomicLong value = map.get(key);
+        return value != null ? value.get() : 0L;
+    }
+
+    /**
+     * Kind of change an event records, which decides how the rebuild snapshot is checked for it
+     */
+    private enum EventKind {
+        // The notice exists
+        NOTICE_CREATED,
+        // The uploaded version is active
+        DOCUMENT_UPLOADED,
+        // The replaced version is no longer the latest
+        VERSION_SUPERSEDED
+    }
+
+    /**
+     * Event applied while a rebuild was running, keyed by the row that shows whether the rebuild saw it
+     */
+    private record RecordedEvent(EventKind kind, Long id, Consumer<Counters> delta) {
+    }
+
+    /**
+     * One generation of counters; replaced as a whole on reconciliation
+     */
+    private static final class Counters {
+        private final LocalDateTime reconciledAt;
+        private final AtomicLong notices = new AtomicLong();
+        private final AtomicLong documents = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+        private final Map<Long, AtomicLong> noticesByUnit = new ConcurrentHashMap<>();
+        private final Map<Long, AtomicLong> documentsByUnit = new ConcurrentHashMap<>();
+        private final Map<Long, AtomicLong> bytesByUnit = new ConcurrentHashMap<>();
+        private final Map<Long, AtomicLong> documentsByUploader = new ConcurrentHashMap<>();
+        private final Map<Long, AtomicLong> bytesByUploader = new ConcurrentHashMap<>();
+
+        Counters(LocalDateTime reconciledAt) {
+            this.reconciledAt = reconciledAt;
+        }
+
+        void add(Map<Long, AtomicLong> map, Long key, long delta) {
+            // Rows without a unit only count towards the totals
+            if (key != null) {
+                map.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(delta);
+            }
+        }
+
+        Set<Long> unitIds() {
+            Set<Long> ids = new HashSet<>(noticesByUnit.keySet());
+            ids.addAll(documentsByUnit.keySet());
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.facilityassist.service;
+
+import com.facilityassist.dto.UnitListResponse;
+import com.facilityassist.repository.UnitRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import java.util.stream.Collectors;
+
+/**
+ * Service for unit-related operations
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UnitService {
+    
+    private final UnitRepository unitRepository;
+    
+    /**
+     * Get units ordered by name with pagination
+     * @param page page number (0-based)
+     * @param size page size
+     * @return UnitListResponse with the units of the page
+     */
+    public UnitListResponse getUnits(int page, int size) {
+        try {
+            log.debug("Getting units - page: {}, size: {}", page, size);
+            
+            Slice<UnitRepository.UnitSummary> slice = unitRepository.findAllSummaries(PageRequest.of(page, size));
+            
+            return UnitListResponse.builder()
+                .units(slice.getContent().stream()
+                    .map(this::convertToUnitSummary)
+                    .collect(Collectors.toList()))
+                .currentPage(page + 1) // Convert to 1-based page number
+                .hasNext(slice.hasNext())
+                .hasPrevious(slice.hasPrevious())
+                .build();
+                
+        } catch (Exception e) {
+            log.error("Error getting units", e);
+            throw new RuntimeException("부대 목록을 가져오는 중 오류가 발생했습니다.", e);
+        }
+    }
+    
+    /**
+     * Convert UnitSummary projection to UnitListResponse.UnitSummary
+     * @param summary UnitSummary projection
+     * @return UnitListResponse.UnitSummary
+     */
+    private UnitListResponse.UnitSummary convertToUnitSummary(UnitRepository.UnitSummary summary) {
+        return UnitListResponse.UnitSummary.builder()
+            .id(summary.getId())
+            .name(summary.getName())
+            .code(summary.getCode())
+            .createdAt(summary.getCreatedAt())
+            .build();
+    }
+}
@@ -1,16 +1,22 @@
 package com.facilityassist.service;
 
 import com.facilityassist.dto.UserInfoResponse;
+import com.facilityassist.dto.UserListResponse;
 import com.facilityassist.model.User;
+import com.facilityassist.model.UserRole;
 import com.facilityassist.repository.UserRepository;
 import com.facilityassist.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Service for user-related operations
@@ -26,6 +32,7 @@ public class UserService {
      * Get current logged-in user information
      * @return UserInfoResponse containing user details
      */
+    @Transactional(readOnly = true) // Also called off the request thread, without an open session
     public Optional<UserInfoResponse> getCurrentUserInfo() {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -70,6 +77,81 @@ public class UserService {
         }
     }
     
+    /**
+     * Get users with pagination
+     * @param page page number (0-based)
+     * @param size page size
+     * @return UserListResponse with the users of the page and their units
+     */
+    public UserListResponse getUsers(int page, int size) {
+        try {
+            log.debug("Getting users - page: {}, size: {}", page, size);
+            return convertToUserListResponse(userRepository.findAllSummaries(PageRequest.of(page, size)), page);
+        } catch (Exception e) {
+            log.error("Error getting users", e);
+            throw new RuntimeException("사용자 목록을 가져오는 중 오류가 발생했습니다.", e);
+        }
+    }
+    
+    /**
+     * Get managers with pagination
+     * @param page page number (0-based)
+     * @param size page size
+     * @return UserListResponse with the managers of the page and their units
+     */
+    public UserListResponse getManagers(int page, int size) {
+        try {
+            log.debug("Getting managers - page: {}, size: {}", page, size);
+            return convertToUserListResponse(
+                userRepository.findSummariesByRole(UserRole.MANAGER, PageRequest.of(page, size)), page);
+        } catch (Exception e) {
+            log.error("Error getting managers", e);
+            throw new RuntimeException("관리자 목록을 가져오는 중 오류가 발생했습니다.", e);
+        }
+    }
+    
+    /**
+     * Convert a slice of user projections to UserListResponse
+     * @param slice slice of UserSummary projections
+     * @param page page number (0-based)
+     * @return UserListResponse
+     */
+    private UserListResponse convertToUserListResponse(Slice<UserRepository.UserSummary> slice, int page) {
+        return UserListResponse.builder()
+            .users(slice.getContent().stream()
+                .map(this::convertToUserInfoResponse)
+                .collect(Collectors.toList()))
+            .currentPage(page + 1) // Convert to 1-based page number
+            .hasNext(slice.hasNext())
+            .hasPrevious(slice.hasPrevious())
+            .build();
+    }
+    
+    /**
+     * Convert UserSummary projection to UserInfoResponse DTO
+     * @param summary the UserSummary projection
+     * @return UserInfoResponse DTO
+     */
+    private UserInfoResponse convertToUserInfoResponse(UserRepository.UserSummary summary) {
+        UserInfoResponse.UnitInfo unitInfo = null;
+        
+        if (summary.getUnitId() != null) {
+            unitInfo = UserInfoResponse.UnitInfo.builder()
+                .id(summary.getUnitId())
+                .name(summary.getUnitName())
+                .code(summary.getUnitCode())
+                .build();
+        }
+        
+        return UserInfoResponse.builder()
+            .id(summary.getId())
+            .username(summary.getUsername())
+            .name(summary.getName())
+            .role(summary.getRole())
+            .unit(unitInfo)
+            .build();
+    }
+    
     /**
      * Convert User entity to UserInfoResponse DTO
      * @param user the User entity
@@ -0,0 +1,79 @@
+package com.facilityassist.controller;
+
+import com.facilityassist.security.TokenAuthenticationFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Any node can serve any request: login leaves no server-side session behind, and the
+ * issued token alone authenticates later requests.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class AuthControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    void login_IssuesTokenWithoutSession() throws Exception {
+        MvcResult login = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"admin\",\"password\":\"admin\"}"))
+                .andExpect(status().isOk())
+                .andExpect(cookie().exists(TokenAuthenticationFilter.COOKIE_NAME))
+                .andExpect(cookie().httpOnly(TokenAuthenticationFilter.COOKIE_NAME, true))
+                .andReturn();
+
+        assertNull(login.getRequest().getSession(false));
+
+        JsonNode body = objectMapper.readTree(login.getResponse().getContentAsString());
+        String token = body.path("data").path("token").asText();
+        Cookie cookie = login.getResponse().getCookie(TokenAuthenticationFilter.COOKIE_NAME);
+
+        mockMvc.perform(get("/api/auth/me").cookie(cookie))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.username").value("admin"));
+
+        mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.role").value("ADMIN"));
+    }
+
+    @Test
+    void request_WithoutTokenIsRejected() throws Exception {
+        mockMvc.perform(get("/api/notices"))
+                .andExpect(status().is4xxClientError());
+
+        mockMvc.perform(get("/api/notices").header(HttpHeaders.AUTHORIZATION, "Bearer forged.token.value"))
+                .andExpect(status().is4xxClientError());
+    }
+}
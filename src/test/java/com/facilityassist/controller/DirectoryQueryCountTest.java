@@ -0,0 +1,67 @@
+package com.facilityassist.controller;
+
+import com.facilityassist.monitoring.QueryStatsFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static com.facilityassist.support.QueryCountMatchers.statementCount;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * User and unit lists are served from projections: one statement per call, no lazy
+ * collections walked during serialization and no password hashes in the response.
+ * Runs against the units and managers created by DataInitializer.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class DirectoryQueryCountTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private QueryStatsFilter queryStatsFilter;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilters(queryStatsFilter)
+                .build();
+    }
+
+    @Test
+    void getAllUsers_SingleStatement() throws Exception {
+        mockMvc.perform(get("/api/users").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.users.length()").value(10))
+                .andExpect(jsonPath("$.data.users[0].passwordHash").doesNotExist())
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(statementCount(1));
+    }
+
+    @Test
+    void getManagers_SingleStatement() throws Exception {
+        mockMvc.perform(get("/api/users/managers").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.users[0].role").value("MANAGER"))
+                .andExpect(jsonPath("$.data.users[0].unit.name").exists())
+                .andExpect(statementCount(1));
+    }
+
+    @Test
+    void getAllUnits_SingleStatement() throws Exception {
+        mockMvc.perform(get("/api/units"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.units[0].managers").doesNotExist())
+                .andExpect(statementCount(1));
+    }
+}
@@ -0,0 +1,129 @@
+package com.facilityassist.controller;
+
+import com.facilityassist.repository.DocumentContentRepository;
+import com.facilityassist.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.SQLException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A download streams its content over a blob pool connection. The client here reads only the
+ * start of a large document and then stops, leaving the response stuck in a socket write, which
+ * is what a slow client does. The primary pool must not be held for that time.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class DocumentDownloadPoolTest {
+
+    private static final int CONTENT_SIZE = 16 * 1024 * 1024;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DocumentContentRepository documentContentRepository;
+
+    @Autowired
+    @Qualifier("blobJdbcTemplate")
+    private JdbcTemplate blobJdbcTemplate;
+
+    @Autowired
+    @Qualifier("dataSource")
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("blobDataSource")
+    private DataSource blobDataSource;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private Long documentId;
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        byte[] content = new byte[CONTENT_SIZE];
+        new Random(17).nextBytes(content);
+        Long uploaderId = userRepository.findByUsername("admin").orElseThrow().getId();
+        documentId = documentContentRepository.insertPending("large.bin", "application/octet-stream",
+            uploaderId, new ByteArrayInputStream(content));
+        blobJdbcTemplate.update("UPDATE DOCUMENTS SET title = 'large', file_size = ?, is_active = TRUE WHERE id = ?",
+            CONTENT_SIZE, documentId);
+
+        HttpResponse<String> login = httpClient.send(HttpRequest.newBuilder(uri("/api/auth/login"))
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"admin\",\"password\":\"admin\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, login.statusCode(), login::body);
+        token = objectMapper.readTree(login.body()).path("data").path("token").asText();
+    }
+
+    @AfterEach
+    void tearDown() {
+        blobJdbcTemplate.update("DELETE FROM DOCUMENTS WHERE id = ?", documentId);
+    }
+
+    @Test
+    void downloadDocument_StreamsWithoutHoldingThePrimaryPool() throws Exception {
+        HttpResponse<InputStream> response = httpClient.sendAsync(HttpRequest.newBuilder(uri("/api/documents/" + documentId + "/download"))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .build(), HttpResponse.BodyHandlers.ofInputStream()).get(10, TimeUnit.SECONDS);
+
+        try (InputStream body = response.body()) {
+            assertEquals(200, response.statusCode());
+            assertEquals(CONTENT_SIZE, response.headers().firstValueAsLong(HttpHeaders.CONTENT_LENGTH).orElse(-1));
+            assertEquals(64 * 1024, body.readNBytes(64 * 1024).length);
+
+            // Scheduled jobs borrow primary connections briefly, so look for a quiet moment
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (activeConnections(dataSource) > 0) {
+                assertTrue(System.nanoTime() < deadline, "primary pool connection held while streaming");
+                Thread.sleep(20);
+            }
+            assertEquals(1, activeConnections(blobDataSource),
+                "the download should still be streaming from the blob pool");
+
+            // Read the rest so the blob connection is returned before the document is deleted
+            assertEquals(CONTENT_SIZE - 64 * 1024, body.readAllBytes().length);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (activeConnections(blobDataSource) > 0) {
+            assertTrue(System.nanoTime() < deadline, "blob pool connection not returned after the download");
+            Thread.sleep(20);
+        }
+    }
+
+    private static int activeConnections(DataSource dataSource) throws SQLException {
+        return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,214 @@
+package com.facilityassist.controller;
+
+import com.facilityassist.model.ContentStorage;
+import com.facilityassist.model.Document;
+import com.facilityassist.model.ProcessingStatus;
+import com.facilityassist.model.User;
+import com.facilityassist.model.UserRole;
+import com.facilityassist.repository.DocumentContentRepository;
+import com.facilityassist.repository.DocumentRepository;
+import com.facilityassist.repository.UserRepository;
+import com.facilityassist.security.UserPrincipal;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Sends raw multipart bodies, since the upload endpoint parses the request stream itself.
+ * Not transactional: the content is written on the blob pool and must be committed.
+ */
+@SpringBootTest(properties = "facility.documents.upload.max-file-size=64KB")
+@ActiveProfiles("test")
+public class DocumentUploadTest {
+
+    private static final String BOUNDARY = "----document-upload-test";
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private DocumentContentRepository documentContentRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MockMvc mockMvc;
+    private User uploader;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        uploader = userRepository.save(User.builder()
+                .username("upload-test-" + System.nanoTime())
+                .name("Upload Test User")
+                .passwordHash("hashedpassword")
+                .role(UserRole.MANAGER)
+                .build());
+
+        UserPrincipal principal = UserPrincipal.create(uploader);
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        documentRepository.deleteAll(documentRepository.findByUploaderIdAndIsActiveTrue(uploader.getId()));
+        userRepository.delete(uploader);
+    }
+
+    @Test
+    void uploadDocument_StreamsContentAndRecordsSizeAndChecksum() throws Exception {
+        byte[] content = new byte[40 * 1024];
+        new Random(7).nextBytes(content);
+
+        String response = mockMvc.perform(post("/api/documents")
+                .contentType("multipart/form-data; boundary=" + BOUNDARY)
+                .content(multipartBody("점검 보고서", content)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.fileName").value("보고서.bin"))
+                .andExpect(jsonPath("$.data.fileSize").value(content.length))
+                .andExpect(jsonPath("$.data.processingStatus").value("PENDING"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        JsonNode data = objectMapper.readTree(response).path("data");
+        assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)),
+            data.path("checksum").asText());
+
+        ByteArrayOutputStream stored = new ByteArrayOutputStream();
+        assertTrue(documentContentRepository.copyContent(data.path("id").asLong(), stored));
+        assertArrayEquals(content, stored.toByteArray());
+    }
+
+    @Test
+    void uploadDocument_KeepsNonAsciiFileNameUnderPosixLocale() throws Exception {
+        // Surefire forks the tests with LC_ALL=C; a UTF-8 locale would hide the Paths.get failure
+        assertNotEquals("UTF-8", System.getProperty("sun.jnu.encoding"));
+
+        mockMvc.perform(post("/api/documents")
+                .contentType("multipart/form-data; boundary=" + BOUNDARY)
+                .content(multipartBody("점검 일지", "C:\\점검\\일지 (3월).txt", new byte[]{1, 2, 3})))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.fileName").value("일지 (3월).txt"));
+    }
+
+    @Test
+    void uploadDocument_RejectsOversizeFile() throws Exception {
+        byte[] content = new byte[65 * 1024];
+
+        mockMvc.perform(post("/api/documents")
+                .contentType("multipart/form-data; boundary=" + BOUNDARY)
+                .content(multipartBody("too large", content)))
+                .andExpect(status().isPayloadTooLarge());
+
+        assertTrue(documentRepository.findByUploaderIdAndIsActiveTrue(uploader.getId()).isEmpty());
+    }
+
+    @Test
+    void uploadDocument_RequiresTitle() throws Exception {
+        mockMvc.perform(post("/api/documents")
+                .contentType("multipart/form-data; boundary=" + BOUNDARY)
+                .content(multipartBody("", new byte[]{1, 2, 3})))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void uploadDocumentVersion_StoresDeltaAndReconstructsContent() throws Exception {
+        byte[] original = new byte[48 * 1024];
+        new Random(11).nextBytes(original);
+        byte[] revised = original.clone();
+        for (int i = 20_000; i < 20_100; i++) {
+            revised[i] = (byte) ~revised[i];
+        }
+
+        long firstId = uploadedId(mockMvc.perform(post("/api/documents")
+                .contentType("multipart/form-data; boundary=" + BOUNDARY)
+                .content(multipartBody("시설 관리 매뉴얼", original)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8));
+
+        long secondId = uploadedId(mockMvc.perform(post("/api/documents/" + firstId + "/versions")
+                .contentType("multipart/form-data; boundary=" + BOUNDARY)
+                .content(multipartBody("", revised)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("시설 관리 매뉴얼"))
+                .andExpect(jsonPath("$.data.versionNumber").value(2))
+                .andExpect(jsonPath("$.data.parentDocumentId").value(firstId))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/api/documents/" + secondId + "/versions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].id").value(secondId))
+                .andExpect(jsonPath("$.data[0].latest").value(true))
+                .andExpect(jsonPath("$.data[1].versionNumber").value(1))
+                .andExpect(jsonPath("$.data[1].latest").value(false));
+
+        Document stored = awaitProcessed(secondId);
+        assertEquals(ContentStorage.DELTA, stored.getStorageType());
+        assertTrue(stored.getStoredSize() < revised.length / 10);
+
+        ByteArrayOutputStream reconstructed = new ByteArrayOutputStream();
+        assertTrue(documentContentRepository.copyContent(secondId, reconstructed));
+        assertArrayEquals(revised, reconstructed.toByteArray());
+    }
+
+    private long uploadedId(String response) throws Exception {
+        return objectMapper.readTree(response).path("data").path("id").asLong();
+    }
+
+    private Document awaitProcessed(Long id) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Document document = documentRepository.findById(id).orElseThrow();
+            if (document.getProcessingStatus() == ProcessingStatus.COMPLETED) {
+                return document;
+            }
+            Thread.sleep(100);
+        }
+        fail("Document " + id + " was not processed in time");
+        return null;
+    }
+
+    private byte[] multipartBody(String title, byte[] content) {
+        return multipartBody(title, "보고서.bin", content);
+    }
+
+    private byte[] multipartBody(String title, String fileName, byte[] content) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(("--" + BOUNDARY + "\r\n" +
+            "Content-Disposition: form-data; name=\"title\"\r\n\r\n" +
+            title + "\r\n" +
+            "--" + BOUNDARY + "\r\n" +
+            "Content-Disposition: form-data; name=\"file\"; filename=\"" + fileName + "\"\r\n" +
+            "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+}
@@ -0,0 +1,204 @@
+package com.facilityassist.controller;
+
+import com.facilityassist.model.Document;
+import com.facilityassist.model.ProcessingStatus;
+import com.facilityassist.model.User;
+import com.facilityassist.model.UserRole;
+import com.facilityassist.monitoring.QueryStatsFilter;
+import com.facilityassist.repository.DocumentRepository;
+import com.facilityassist.repository.NoticeRepository;
+import com.facilityassist.repository.UserRepository;
+import com.facilityassist.security.UserPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.facilityassist.support.QueryCountMatchers.statementCount;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Conditional GETs on the full notice and document lists. Not transactional: the version
+ * query must reach the database for the statement counts to mean anything.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ListRevalidationTest {
+
+    private static final String BOUNDARY = "----list-revalidation-test";
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private QueryStatsFilter queryStatsFilter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Long> noticeIds = new ArrayList<>();
+    private MockMvc mockMvc;
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilters(queryStatsFilter)
+                .build();
+
+        author = userRepository.save(User.builder()
+                .username("revalidation-test-" + System.nanoTime())
+                .name("Revalidation Test User")
+                .passwordHash("hashedpassword")
+                .role(UserRole.MANAGER)
+                .build());
+
+        UserPrincipal principal = UserPrincipal.create(author);
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        noticeRepository.deleteAllById(noticeIds);
+        documentRepository.deleteAll(documentRepository.findByUploaderIdAndIsActiveTrue(author.getId()));
+        userRepository.delete(author);
+    }
+
+    @Test
+    void getAllNotices_MatchingETagReturnsNotModifiedFromVersionQueryOnly() throws Exception {
+        String eTag = eTag("/api/notices/all", MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(get("/api/notices/all").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""))
+                .andExpect(statementCount(1));
+    }
+
+    @Test
+    void streamAllNotices_MatchingETagReturnsNotModifiedFromVersionQueryOnly() throws Exception {
+        MediaType ndjson = MediaType.parseMediaType("application/x-ndjson");
+        String eTag = eTag("/api/notices/all", ndjson);
+
+        mockMvc.perform(get("/api/notices/all").accept(ndjson).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(statementCount(1));
+    }
+
+    @Test
+    void getAllNotices_ETagChangesAfterCreate() throws Exception {
+        String before = eTag("/api/notices/all", MediaType.APPLICATION_JSON);
+
+        String response = mockMvc.perform(post("/api/notices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"재검증 테스트 공지\",\"content\":\"내용\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        noticeIds.add(objectMapper.readTree(response).path("data").path("id").asLong());
+
+        mockMvc.perform(get("/api/notices/all").header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(before)));
+    }
+
+    @Test
+    void getAllDocuments_MatchingETagReturnsNotModifiedFromVersionQueryOnly() throws Exception {
+        String eTag = eTag("/api/documents/all", MediaType.APPLICATION_JSON);
+
+        mockMvc.perform(get("/api/documents/all").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(statementCount(1));
+    }
+
+    @Test
+    void getAllDocuments_ETagChangesAfterUploadAndVersionUpload() throws Exception {
+        String initial = eTag("/api/documents/all", MediaType.APPLICATION_JSON);
+
+        long firstId = uploadedId(mockMvc.perform(post("/api/documents")
+                .contentType("multipart/form-data; boundary=" + BOUNDARY)
+                .content(multipartBody("재검증 문서", new byte[]{1, 2, 3})))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8));
+        awaitProcessed(firstId);
+
+        String uploaded = eTag("/api/documents/all", MediaType.APPLICATION_JSON);
+        assertNotEquals(initial, uploaded);
+
+        // Same number of latest documents, so only the newer modification time can move the tag
+        long secondId = uploadedId(mockMvc.perform(post("/api/documents/" + firstId + "/versions")
+                .contentType("multipart/form-data; boundary=" + BOUNDARY)
+                .content(multipartBody("", new byte[]{1, 2, 3, 4})))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/api/documents/all").header(HttpHeaders.IF_NONE_MATCH, uploaded))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(uploaded)));
+        awaitProcessed(secondId);
+    }
+
+    private String eTag(String path, MediaType accept) throws Exception {
+        String eTag = mockMvc.perform(get(path).accept(accept))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+        return eTag;
+    }
+
+    private long uploadedId(String response) throws Exception {
+        return objectMapper.readTree(response).path("data").path("id").asLong();
+    }
+
+    private void awaitProcessed(Long id) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Document document = documentRepository.findById(id).orElseThrow();
+            if (document.getProcessingStatus() == ProcessingStatus.COMPLETED) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        fail("Document " + id + " was not processed in time");
+    }
+
+    private byte[] multipartBody(String title, byte[] content) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(("--" + BOUNDARY + "\r\n" +
+            "Content-Disposition: form-data; name=\"title\"\r\n\r\n" +
+            title + "\r\n" +
+            "--" + BOUNDARY + "\r\n" +
+            "Content-Disposition: form-data; name=\"file\"; filename=\"revalidation.txt\"\r\n" +
+            "Content-Type: text/plain\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+}
@@ -6,6 +6,7 @@ import com.facilityassist.model.UserRole;
 import com.facilityassist.repository.NoticeRepository;
 import com.facilityassist.repository.UserRepository;
 import com.facilityassist.security.UserPrincipal;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,10 +18,17 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -53,7 +61,7 @@ public class NoticeControllerTest {
                 .username("testuser")
                 .name("Test User")
                 .passwordHash("hashedpassword")
-                .role(UserRole.USER)
+                .role(UserRole.MANAGER)
                 .build();
         testUser = userRepository.save(testUser);
 
@@ -107,4 +115,26 @@ public class NoticeControllerTest {
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void streamAllNotices_WritesOneSummaryPerLine() throws Exception {
+        // Streamed from a separate transaction, so only the committed sample notices are visible
+        long committedNotices = noticeRepository.count();
+
+        MvcResult started = mockMvc.perform(get("/api/notices/all").accept("application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.isEmpty() ? new String[0] : body.split("\n");
+        assertEquals(committedNotices, lines.length);
+        for (String line : lines) {
+            JsonNode summary = objectMapper.readTree(line);
+            assertTrue(summary.hasNonNull("id"));
+            assertTrue(summary.hasNonNull("title"));
+        }
+    }
 }
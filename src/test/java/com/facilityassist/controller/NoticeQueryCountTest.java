@@ -0,0 +1,87 @@
+package com.facilityassist.controller;
+
+import com.facilityassist.model.Notice;
+import com.facilityassist.model.User;
+import com.facilityassist.model.UserRole;
+import com.facilityassist.monitoring.QueryStatsFilter;
+import com.facilityassist.repository.NoticeRepository;
+import com.facilityassist.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.facilityassist.support.QueryCountMatchers.statementCount;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Guards the notice list against N+1 author lookups. Not transactional on purpose: a shared
+ * persistence context would already hold the authors and hide the extra queries.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class NoticeQueryCountTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private QueryStatsFilter queryStatsFilter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    private MockMvc mockMvc;
+    private final List<User> authors = new ArrayList<>();
+    private final List<Notice> notices = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilters(queryStatsFilter)
+                .build();
+
+        for (int i = 0; i < 5; i++) {
+            authors.add(userRepository.save(User.builder()
+                    .username("query-count-author-" + i)
+                    .name("Query Count Author " + i)
+                    .passwordHash("hashedpassword")
+                    .role(UserRole.MANAGER)
+                    .build()));
+        }
+        for (User author : authors) {
+            notices.add(noticeRepository.save(Notice.builder()
+                    .title("Query count notice by " + author.getName())
+                    .content("content")
+                    .writtenBy(author)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        noticeRepository.deleteAll(notices);
+        userRepository.deleteAll(authors);
+    }
+
+    @Test
+    void getRecentNotices_LoadsAuthorsWithPage() throws Exception {
+        // One page query with authors joined; the total comes from the statistics counters
+        mockMvc.perform(get("/api/notices").param("page", "0").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.notices.length()").value(5))
+                .andExpect(statementCount(1));
+    }
+}
@@ -0,0 +1,154 @@
+package com.facilityassist.controller;
+
+import com.facilityassist.model.Notice;
+import com.facilityassist.model.User;
+import com.facilityassist.repository.NoticeRepository;
+import com.facilityassist.repository.UserRepository;
+import com.facilityassist.service.ChangeFeedService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compression is applied by Tomcat, so these requests go through a real connector rather
+ * than MockMvc.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class ResponseCompressionTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final List<Notice> notices = new ArrayList<>();
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Enough notices to push the list past the minimum compressed response size
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        for (int i = 0; i < 40; i++) {
+            notices.add(noticeRepository.save(Notice.builder()
+                    .title("압축 테스트 공지 " + i + " " + "가".repeat(60))
+                    .content("content")
+                    .writtenBy(admin)
+                    .build()));
+        }
+
+        HttpResponse<String> login = httpClient.send(HttpRequest.newBuilder(uri("/api/auth/login"))
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"admin\",\"password\":\"admin\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, login.statusCode(), login::body);
+        token = objectMapper.readTree(login.body()).path("data").path("token").asText();
+    }
+
+    @AfterEach
+    void tearDown() {
+        noticeRepository.deleteAll(notices);
+    }
+
+    @Test
+    void getAllNotices_GzipsJsonWhenAccepted() throws Exception {
+        HttpResponse<byte[]> response = httpClient.send(authorized("/api/notices/all")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+        assertTrue(response.headers().allValues(HttpHeaders.VARY).stream().anyMatch(v -> v.toLowerCase().contains("accept-encoding")));
+
+        JsonNode body;
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            body = objectMapper.readTree(in);
+        }
+        assertTrue(body.path("success").asBoolean());
+        assertTrue(body.path("data").path("totalCount").asInt() >= notices.size());
+    }
+
+    @Test
+    void getAllNotices_PlainWithoutAcceptEncoding() throws Exception {
+        HttpResponse<String> response = httpClient.send(authorized("/api/notices/all").build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isEmpty());
+        assertTrue(objectMapper.readTree(response.body()).path("success").asBoolean());
+    }
+
+    @Test
+    void streamAllNotices_GzipsNdjson() throws Exception {
+        HttpResponse<byte[]> response = httpClient.send(authorized("/api/notices/all")
+                .header(HttpHeaders.ACCEPT, "application/x-ndjson")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            long lines = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().count();
+            assertTrue(lines >= notices.size());
+        }
+    }
+
+    @Test
+    void changeFeed_NotCompressed() throws Exception {
+        int subscribers = changeFeedService.getSubscriberCount();
+        CompletableFuture<HttpResponse<InputStream>> pending = httpClient.sendAsync(authorized("/api/events")
+                .header(HttpHeaders.ACCEPT, "text/event-stream")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build(), HttpResponse.BodyHandlers.ofInputStream());
+        // The headers go out with the first event
+        while (changeFeedService.getSubscriberCount() == subscribers) {
+            Thread.sleep(10);
+        }
+        changeFeedService.heartbeat();
+        HttpResponse<InputStream> response = pending.get(10, TimeUnit.SECONDS);
+
+        try (InputStream ignored = response.body()) {
+            assertEquals(200, response.statusCode());
+            assertTrue(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isEmpty());
+        }
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(uri(path)).header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,84 @@
+package com.facilityassist.loadtest;
+
+import com.facilityassist.FacilityAssistApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Starts the app on a random port with synthetic data and replays the LoadDriver mix against it.
+ * Run with {@code mvn test -Pload-test}.
+ */
+@Tag("load")
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class HttpLoadTest {
+
+    private static final int UNITS = 50;
+    private static final int MANAGERS_PER_UNIT = 2;
+    private static final int VIRTUAL_USERS = 100;
+
+    @Test
+    void replayMixedWorkload() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(FacilityAssistApplication.class)
+                .properties(
+                    "server.port=0",
+                    "spring.datasource.url=jdbc:h2:mem:http-load-test;DB_CLOSE_DELAY=-1",
+                    "spring.jpa.show-sql=false",
+                    "logging.level.org.hibernate.SQL=WARN",
+                    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                    // Every virtual user logs in from localhost
+                    "facility.login-rate-limit.enabled=false",
+                    "facility.synthetic-data.enabled=true",
+                    "facility.synthetic-data.units=" + UNITS,
+                    "facility.synthetic-data.managers-per-unit=" + MANAGERS_PER_UNIT,
+                    "facility.synthetic-data.notices=5000",
+                    "facility.synthetic-data.documents=500",
+                    "facility.synthetic-data.document-size.median-bytes=32768")
+                .run();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+
+            // Spread virtual users over the generated manager accounts
+            List<String> usernames = new ArrayList<>();
+            for (int i = 0; i < UNITS; i++) {
+                for (int j = 0; j < MANAGERS_PER_UNIT; j++) {
+                    usernames.add("gen_" + i + "_manager_" + j);
+                }
+            }
+
+            LoadDriver.Config config = new LoadDriver.Config(
+                URI.create("http://localhost:" + port),
+                VIRTUAL_USERS,
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(20),
+                usernames,
+                "password123",
+                64 * 1024,
+                42L);
+            HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executor)
+                .build();
+
+            List<LoadDriver.OperationStats> stats = new LoadDriver(config, httpClient).run();
+            LoadDriver.print(stats);
+
+            assertTrue(stats.stream().mapToLong(LoadDriver.OperationStats::count).sum() > 0);
+        }
+    }
+}
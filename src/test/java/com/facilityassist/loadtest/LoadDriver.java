@@ -0,0 +1,321 @@
+package com.facilityassist.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Self-contained HTTP load driver.
+ *
+ * Every virtual user logs in, discovers notice and document IDs, then replays a weighted mix of
+ * login, dashboard lists, detail views, downloads and uploads until the run ends. Samples taken
+ * during warmup are discarded. Users draw from their own seeded random, so a run is reproducible
+ * for the same configuration and data.
+ *
+ * Usage: {@code LoadDriver <baseUrl> [virtualUsers] [durationSeconds] [usernames] [password]}
+ */
+public class LoadDriver {
+
+    public enum Operation {
+        LOGIN(5),
+        NOTICE_LIST(25),
+        DOCUMENT_LIST(25),
+        NOTICE_DETAIL(15),
+        DOCUMENT_DETAIL(10),
+        DOWNLOAD(15),
+        UPLOAD(5);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    public record Config(URI baseUri, int virtualUsers, Duration warmup, Duration duration,
+                         List<String> usernames, String password, int uploadBytes, long seed) {
+    }
+
+    public record OperationStats(Operation operation, long count, long errors, double throughput,
+                                 double p50Ms, double p99Ms, double p999Ms) {
+    }
+
+    private static final int TOTAL_WEIGHT = Arrays.stream(Operation.values()).mapToInt(op -> op.weight).sum();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Config config;
+    private final HttpClient httpClient;
+
+    public LoadDriver(Config config, HttpClient httpClient) {
+        this.config = config;
+        this.httpClient = httpClient;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: LoadDriver <baseUrl> [virtualUsers] [durationSeconds] [usernames] [password]");
+            System.exit(1);
+        }
+        Config config = new Config(
+            URI.create(args[0]),
+            args.length > 1 ? Integer.parseInt(args[1]) : 50,
+            Duration.ofSeconds(10),
+            Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 60),
+            args.length > 3 ? List.of(args[3].split(",")) : List.of("admin"),
+            args.length > 4 ? args[4] : "admin",
+            64 * 1024,
+            42L);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executor)
+                .build();
+            print(new LoadDriver(config, httpClient).run());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Run the configured load and collect per-operation statistics
+     */
+    public List<OperationStats> run() throws InterruptedException {
+        long warmupEnd = System.nanoTime() + config.warmup().toNanos();
+        long end = warmupEnd + config.duration().toNanos();
+        List<VirtualUser> users = new ArrayList<>();
+        for (int i = 0; i < config.virtualUsers(); i++) {
+            users.add(new VirtualUser(i, warmupEnd, end));
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            users.forEach(executor::execute);
+        }
+
+        List<OperationStats> stats = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            Samples merged = new Samples();
+            long errors = 0;
+            for (VirtualUser user : users) {
+                merged.addAll(user.samples.get(operation));
+                errors += user.errors.get(operation)[0];
+            }
+            long[] sorted = merged.sorted();
+            stats.add(new OperationStats(operation, sorted.length, errors,
+                sorted.length / (double) config.duration().toSeconds(),
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999)));
+        }
+        return stats;
+    }
+
+    /**
+     * Print statistics as a table
+     */
+    public static void print(List<OperationStats> stats) {
+        System.out.printf("%n%-16s %10s %8s %10s %10s %10s %10s%n",
+            "operation", "count", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms");
+        for (OperationStats s : stats) {
+            System.out.printf("%-16s %10d %8d %10.1f %10.2f %10.2f %10.2f%n",
+                s.operation(), s.count(), s.errors(), s.throughput(), s.p50Ms(), s.p99Ms(), s.p999Ms());
+        }
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private class VirtualUser implements Runnable {
+
+        private final Random random;
+        private final String username;
+        private final long warmupEnd;
+        private final long end;
+        private final Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+        private final Map<Operation, long[]> errors = new EnumMap<>(Operation.class);
+        private List<String> authHeaders = List.of();
+        private List<Long> noticeIds = List.of();
+        private List<Long> documentIds = List.of();
+
+        VirtualUser(int index, long warmupEnd, long end) {
+            this.random = new Random(config.seed() + index);
+            this.username = config.usernames().get(index % config.usernames().size());
+            this.warmupEnd = warmupEnd;
+            this.end = end;
+            for (Operation operation : Operation.values()) {
+                samples.put(operation, new Samples());
+                errors.put(operation, new long[1]);
+            }
+        }
+
+        @Override
+        public void run() {
+            execute(Operation.LOGIN);
+            noticeIds = discoverIds("/api/notices?page=0&size=50", "notices");
+            documentIds = discoverIds("/api/documents?page=0&size=50", "documents");
+            while (System.nanoTime() < end) {
+                execute(nextOperation());
+            }
+        }
+
+        private Operation nextOperation() {
+            int roll = random.nextInt(TOTAL_WEIGHT);
+            for (Operation operation : Operation.values()) {
+                roll -= operation.weight;
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            return Operation.NOTICE_LIST;
+        }
+
+        private void execute(Operation operation) {
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                ok = switch (operation) {
+                    case LOGIN -> login();
+                    case NOTICE_LIST -> get("/api/notices?page=" + random.nextInt(3) + "&size=5");
+                    case DOCUMENT_LIST -> get("/api/documents?page=" + random.nextInt(3) + "&size=5");
+                    case NOTICE_DETAIL -> noticeIds.isEmpty() || get("/api/notices/" + pick(noticeIds));
+                    case DOCUMENT_DETAIL -> documentIds.isEmpty() || get("/api/documents/" + pick(documentIds));
+                    case DOWNLOAD -> documentIds.isEmpty() || get("/api/documents/" + pick(documentIds) + "/download");
+                    case UPLOAD -> upload();
+                };
+            } catch (Exception e) {
+                ok = false;
+            }
+            long elapsed = System.nanoTime() - start;
+            if (start >= warmupEnd && start < end) {
+                if (ok) {
+                    samples.get(operation).add(elapsed);
+                } else {
+                    errors.get(operation)[0]++;
+                }
+            }
+        }
+
+        private boolean login() throws Exception {
+            String body = OBJECT_MAPPER.writeValueAsString(Map.of("username", username, "password", config.password()));
+            HttpResponse<byte[]> response = httpClient.send(
+                HttpRequest.newBuilder(config.baseUri().resolve("/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                return false;
+            }
+            List<String> cookies = response.headers().allValues("Set-Cookie").stream()
+                .map(cookie -> cookie.split(";", 2)[0])
+                .collect(Collectors.toList());
+            authHeaders = cookies.isEmpty() ? authHeaders : List.of("Cookie", String.join("; ", cookies));
+            return true;
+        }
+
+        private boolean get(String path) throws Exception {
+            HttpResponse<Void> response = httpClient.send(request(path).GET().build(), HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() == 200;
+        }
+
+        private boolean upload() throws Exception {
+            String boundary = "----load-driver-" + random.nextLong();
+            byte[] content = new byte[config.uploadBytes()];
+            random.nextBytes(content);
+
+            ByteArrayOutputStream body = new ByteArrayOutputStream(content.length + 512);
+            writePart(body, boundary, "title", null, "부하 테스트 문서".getBytes(StandardCharsets.UTF_8));
+            writePart(body, boundary, "description", null, "load driver upload".getBytes(StandardCharsets.UTF_8));
+            writePart(body, boundary, "file", "load-test.bin", content);
+            body.write(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+            HttpResponse<Void> response = httpClient.send(
+                request("/api/documents")
+                    .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                    .build(),
+                HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() == 200;
+        }
+
+        private void writePart(ByteArrayOutputStream body, String boundary, String name, String fileName, byte[] data) {
+            StringBuilder header = new StringBuilder("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"").append(name).append('"');
+            if (fileName != null) {
+                header.append("; filename=\"").append(fileName).append("\"\r\nContent-Type: application/octet-stream");
+            }
+            header.append("\r\n\r\n");
+            body.writeBytes(header.toString().getBytes(StandardCharsets.UTF_8));
+            body.writeBytes(data);
+            body.writeBytes("\r\n".getBytes(StandardCharsets.UTF_8));
+        }
+
+        private List<Long> discoverIds(String path, String field) {
+            try {
+                HttpResponse<byte[]> response = httpClient.send(request(path).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+                List<Long> ids = new ArrayList<>();
+                for (JsonNode item : OBJECT_MAPPER.readTree(response.body()).path("data").path(field)) {
+                    ids.add(item.path("id").asLong());
+                }
+                return ids;
+            } catch (Exception e) {
+                return List.of();
+            }
+        }
+
+        private HttpRequest.Builder request(String path) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(config.baseUri().resolve(path))
+                .timeout(Duration.ofSeconds(60));
+            if (!authHeaders.isEmpty()) {
+                builder.headers(authHeaders.toArray(String[]::new));
+            }
+            return builder;
+        }
+
+        private long pick(List<Long> ids) {
+            return ids.get(random.nextInt(ids.size()));
+        }
+    }
+
+    private static class Samples {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.facilityassist.loadtest;
+
+import com.facilityassist.FacilityAssistApplication;
+import com.facilityassist.repository.UnitRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares request throughput of the platform-thread Tomcat pool against virtual threads.
+ *
+ * The endpoint under load sleeps to stand in for a blocking JDBC call or blob read and then runs
+ * one real query, so the platform pool saturates at {@code max-threads / blocking time}.
+ * Run with {@code mvn test -Pload-test}.
+ */
+@Tag("load")
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class ThreadModelLoadTest {
+
+    private static final int CONCURRENCY = 1000;
+    private static final long BLOCKING_MS = 50;
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(10);
+
+    @Test
+    void compareThroughput_PlatformVersusVirtualThreads() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%n%-10s %12s %10s%n", "mode", "requests/s", "errors");
+        System.out.printf("%-10s %12.1f %10d%n", "platform", platform.throughput(), platform.errors());
+        System.out.printf("%-10s %12.1f %10d%n", "virtual", virtual.throughput(), virtual.errors());
+
+        assertTrue(platform.requests() > 0);
+        assertTrue(virtual.requests() > 0);
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                FacilityAssistApplication.class, BlockingEndpointConfig.class)
+                .properties(
+                    "server.port=0",
+                    "server.tomcat.threads.max=200",
+                    "spring.threads.virtual.enabled=" + virtualThreads,
+                    "spring.datasource.url=jdbc:h2:mem:loadtest-" + mode,
+                    "spring.jpa.show-sql=false",
+                    "logging.level.org.hibernate.SQL=WARN",
+                    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+                .run()) {
+
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/load-test/blocking");
+
+            drive(uri, WARMUP);
+            return drive(uri, MEASUREMENT);
+        }
+    }
+
+    private Result drive(URI uri, Duration duration) throws InterruptedException {
+        AtomicLong requests = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clients)
+                .build();
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+
+            for (int i = 0; i < CONCURRENCY; i++) {
+                clients.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                requests.incrementAndGet();
+                            } else {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+        return new Result(requests.get(), errors.get(), requests.get() / (double) duration.toSeconds());
+    }
+
+    private record Result(long requests, long errors, double throughput) {
+    }
+
+    @TestConfiguration
+    static class BlockingEndpointConfig {
+
+        @Bean
+        BlockingEndpoint blockingEndpoint(UnitRepository unitRepository) {
+            return new BlockingEndpoint(unitRepository);
+        }
+
+        @Bean
+        @Order(0)
+        SecurityFilterChain loadTestFilterChain(HttpSecurity http) throws Exception {
+            http.securityMatcher("/load-test/**")
+                .authorizeHttpRequests(authz -> authz.anyRequest().permitAll());
+            return http.build();
+        }
+    }
+
+    @RestController
+    static class BlockingEndpoint {
+
+        private final UnitRepository unitRepository;
+
+        BlockingEndpoint(UnitRepository unitRepository) {
+            this.unitRepository = unitRepository;
+        }
+
+        @GetMapping("/load-test/blocking")
+        long blocking() throws InterruptedException {
+            Thread.sleep(BLOCKING_MS);
+            return unitRepository.count();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.facilityassist.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryDeltaTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void encode_SmallEditGivesSmallDelta() throws Exception {
+        byte[] base = new byte[200_000];
+        new Random(3).nextBytes(base);
+        byte[] target = new byte[base.length + 10];
+        System.arraycopy(base, 0, target, 0, 100_000);
+        System.arraycopy("inserted!!".getBytes(StandardCharsets.US_ASCII), 0, target, 100_000, 10);
+        System.arraycopy(base, 100_000, target, 100_010, 100_000);
+
+        byte[] delta = BinaryDelta.encode(base, target);
+
+        assertTrue(delta.length < 200, "delta was " + delta.length + " bytes");
+        assertArrayEquals(target, apply(base, delta));
+    }
+
+    @Test
+    void encode_RoundTripsUnrelatedAndEmptyContent() throws Exception {
+        Random random = new Random(5);
+        byte[] base = new byte[5_000];
+        random.nextBytes(base);
+        byte[] unrelated = new byte[7_000];
+        random.nextBytes(unrelated);
+
+        assertArrayEquals(unrelated, apply(base, BinaryDelta.encode(base, unrelated)));
+        assertArrayEquals(new byte[0], apply(base, BinaryDelta.encode(base, new byte[0])));
+        assertArrayEquals(base, apply(new byte[0], BinaryDelta.encode(new byte[0], base)));
+    }
+
+    @Test
+    void encode_HandlesReorderedBlocks() throws Exception {
+        byte[] base = new byte[64 * 100];
+        new Random(9).nextBytes(base);
+        byte[] target = new byte[base.length];
+        System.arraycopy(base, 3200, target, 0, 3200);
+        System.arraycopy(base, 0, target, 3200, 3200);
+
+        byte[] delta = BinaryDelta.encode(base, target);
+
+        assertTrue(delta.length < 100, "delta was " + delta.length + " bytes");
+        assertArrayEquals(target, apply(base, delta));
+    }
+
+    private byte[] apply(byte[] base, byte[] delta) throws Exception {
+        Path baseFile = Files.write(tempDir.resolve("base-" + System.nanoTime()), base);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RandomAccessFile file = new RandomAccessFile(baseFile.toFile(), "r")) {
+            BinaryDelta.apply(new ByteArrayInputStream(delta), file, out);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,99 @@
+package com.facilityassist.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reconstruction of content stored as a chain of deltas, written straight through the repository
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class DocumentContentRepositoryTest {
+
+    @Autowired
+    private DocumentContentRepository documentContentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier("blobJdbcTemplate")
+    private JdbcTemplate blobJdbcTemplate;
+
+    private final List<Long> ids = new ArrayList<>();
+    private final List<byte[]> versions = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Long uploaderId = userRepository.findByUsername("admin").orElseThrow().getId();
+        Random random = new Random(13);
+        byte[] content = new byte[30_000];
+        random.nextBytes(content);
+        for (int version = 0; version < 4; version++) {
+            if (version > 0) {
+                content = content.clone();
+                for (int i = 0; i < 50; i++) {
+                    content[random.nextInt(content.length)] ^= 0x5a;
+                }
+            }
+            versions.add(content);
+            ids.add(documentContentRepository.insertPending("chain.bin", "application/octet-stream",
+                uploaderId, new ByteArrayInputStream(content)));
+        }
+        for (int version = 1; version < 4; version++) {
+            byte[] delta = BinaryDelta.encode(versions.get(version - 1), versions.get(version));
+            assertTrue(documentContentRepository.replaceWithDelta(ids.get(version), delta, ids.get(version - 1), version));
+        }
+        blobJdbcTemplate.update("UPDATE DOCUMENTS SET is_active = TRUE WHERE id = ?", ids.get(3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (int version = ids.size() - 1; version >= 0; version--) {
+            blobJdbcTemplate.update("DELETE FROM DOCUMENTS WHERE id = ?", ids.get(version));
+        }
+    }
+
+    @Test
+    void copyContent_RebuildsDeltaChainFromSnapshot() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertTrue(documentContentRepository.copyContent(ids.get(3), out));
+
+        assertArrayEquals(versions.get(3), out.toByteArray());
+    }
+
+    @Test
+    void copyContent_IgnoresInactiveDocument() {
+        assertFalse(documentContentRepository.copyContent(ids.get(2), new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void readPrefix_ReturnsFirstBytesOfDeltaStoredContent() {
+        byte[] prefix = documentContentRepository.readPrefix(ids.get(3), 512);
+
+        assertArrayEquals(Arrays.copyOf(versions.get(3), 512), prefix);
+    }
+
+    @Test
+    void readPrefix_ReturnsWholeContentShorterThanTheLimit() {
+        byte[] prefix = documentContentRepository.readPrefix(ids.get(3), 100_000);
+
+        assertArrayEquals(versions.get(3), prefix);
+    }
+}
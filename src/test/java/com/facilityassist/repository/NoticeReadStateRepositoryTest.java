@@ -0,0 +1,48 @@
+package com.facilityassist.repository;
+
+import com.facilityassist.model.NoticeReadState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class NoticeReadStateRepositoryTest {
+
+    private static final long NOTICE_ID = 900_001L;
+
+    @Autowired
+    private NoticeReadStateRepository noticeReadStateRepository;
+
+    @AfterEach
+    void tearDown() {
+        noticeReadStateRepository.deleteById(NOTICE_ID);
+    }
+
+    @Test
+    void upsertAll_InsertsThenReplaces() {
+        noticeReadStateRepository.upsertAll(List.of(state(new byte[]{1}, 1)));
+        noticeReadStateRepository.upsertAll(List.of(state(new byte[]{1, 2}, 2)));
+
+        NoticeReadState stored = noticeReadStateRepository.findById(NOTICE_ID).orElseThrow();
+        assertArrayEquals(new byte[]{1, 2}, stored.getReaderBitmap());
+        assertEquals(2, stored.getReadCount());
+        assertEquals(1, noticeReadStateRepository.findAllById(List.of(NOTICE_ID)).size());
+    }
+
+    private static NoticeReadState state(byte[] bitmap, int readCount) {
+        return NoticeReadState.builder()
+            .noticeId(NOTICE_ID)
+            .readerBitmap(bitmap)
+            .readCount(readCount)
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+}
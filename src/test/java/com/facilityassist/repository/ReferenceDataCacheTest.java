@@ -0,0 +1,77 @@
+package com.facilityassist.repository;
+
+import com.facilityassist.model.Unit;
+import com.facilityassist.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit and User lookups are answered from the second-level and query caches after the first
+ * call. No surrounding transaction, so each repository call runs in its own session and only
+ * the shared caches can avoid the database.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ReferenceDataCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UnitRepository unitRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findByUsername_SecondLookupHitsTheCache() {
+        User first = userRepository.findByUsername("admin").orElseThrow();
+        statistics.clear();
+
+        User second = userRepository.findByUsername("admin").orElseThrow();
+
+        assertEquals(first.getId(), second.getId());
+        assertEquals(0, statistics.getPrepareStatementCount(), statistics::toString);
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void findByCode_SecondLookupHitsTheCache() {
+        String code = unitRepository.findAll().get(0).getCode();
+        unitRepository.findByCode(code).orElseThrow();
+        statistics.clear();
+
+        Unit unit = unitRepository.findByCode(code).orElseThrow();
+
+        assertEquals(code, unit.getCode());
+        assertEquals(0, statistics.getPrepareStatementCount(), statistics::toString);
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void findById_ServedFromTheEntityCache() {
+        Long id = userRepository.findByUsername("admin").orElseThrow().getId();
+        userRepository.findById(id).orElseThrow();
+        statistics.clear();
+
+        userRepository.findById(id).orElseThrow();
+
+        assertEquals(0, statistics.getPrepareStatementCount(), statistics::toString);
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+}
@@ -0,0 +1,56 @@
+package com.facilityassist.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HierarchicalTimingWheelTest {
+
+    @Test
+    void add_AlreadyDue_ReturnsFalse() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 1000);
+
+        assertFalse(wheel.add("past", 995));
+        assertFalse(wheel.add("current tick", 1005));
+        assertTrue(wheel.add("next tick", 1010));
+    }
+
+    @Test
+    void advanceClock_FiresItemsInOrderWithinOneTick() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+        long[] expirations = {25, 79, 80, 640, 5_123, 70_000};
+        for (long expiration : expirations) {
+            assertTrue(wheel.add(expiration, expiration));
+        }
+
+        List<Long> fired = new ArrayList<>();
+        for (long now = 0; now <= 80_000; now += 5) {
+            long current = now;
+            wheel.advanceClock(now, expiration -> {
+                assertTrue(current >= expiration - 10, "fired too early: " + expiration + " at " + current);
+                assertTrue(current <= expiration, "fired too late: " + expiration + " at " + current);
+                fired.add(expiration);
+            });
+        }
+
+        assertEquals(List.of(25L, 79L, 80L, 640L, 5_123L, 70_000L), fired);
+    }
+
+    @Test
+    void advanceClock_LargeJump_FiresEverythingDue() {
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(1, 4, 0);
+        for (int i = 1; i <= 1000; i++) {
+            wheel.add(i, i);
+        }
+
+        List<Integer> fired = new ArrayList<>();
+        wheel.advanceClock(500, fired::add);
+        assertEquals(500, fired.size());
+
+        wheel.advanceClock(1000, fired::add);
+        assertEquals(1000, fired.size());
+    }
+}
@@ -0,0 +1,67 @@
+package com.facilityassist.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginRateLimiterTest {
+
+    @Test
+    void tryAcquire_AllowsBurstThenRejectsPerUsername() {
+        LoginRateLimiter limiter = new LoginRateLimiter(true, 3, Duration.ofMinutes(1), 100, Duration.ofMinutes(1), 1000);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("Manager", "10.0.0.1"));
+        }
+        long retryAfterMs = limiter.tryAcquire("manager", "10.0.0.2");
+        assertTrue(retryAfterMs > 0 && retryAfterMs <= Duration.ofMinutes(1).toMillis());
+        assertEquals(0, limiter.tryAcquire("other", "10.0.0.1"));
+        assertEquals(1, limiter.getUsernameRejectionCount());
+    }
+
+    @Test
+    void tryAcquire_RejectsPerIpAcrossUsernames() {
+        LoginRateLimiter limiter = new LoginRateLimiter(true, 100, Duration.ofMinutes(1), 2, Duration.ofMinutes(1), 1000);
+
+        assertEquals(0, limiter.tryAcquire("a", "10.0.0.1"));
+        assertEquals(0, limiter.tryAcquire("b", "10.0.0.1"));
+        assertTrue(limiter.tryAcquire("c", "10.0.0.1") > 0);
+        assertEquals(0, limiter.tryAcquire("c", "10.0.0.2"));
+        assertEquals(1, limiter.getIpRejectionCount());
+    }
+
+    @Test
+    void tryAcquire_FullMapEvictsSprayedBucketsAndKeepsTheGuessedOne() {
+        LoginRateLimiter limiter = new LoginRateLimiter(true, 3, Duration.ofMinutes(1), 1000, Duration.ofMinutes(1), 10);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("manager", "10.0.0.1");
+        }
+        assertTrue(limiter.tryAcquire("manager", "10.0.0.1") > 0);
+        for (int i = 0; i < 50; i++) {
+            assertEquals(0, limiter.tryAcquire("spray" + i, "10.0.0." + i));
+        }
+
+        assertTrue(limiter.getUsernameBucketCount() <= 10);
+        assertTrue(limiter.tryAcquire("manager", "10.0.0.2") > 0);
+        // New users get their own bucket instead of sharing one with the spray
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("newcomer", "10.0.0.3"));
+        }
+        assertEquals(0, limiter.tryAcquire("another", "10.0.0.4"));
+    }
+
+    @Test
+    void evictIdle_DropsRefilledBucketsOnly() throws InterruptedException {
+        LoginRateLimiter limiter = new LoginRateLimiter(true, 2, Duration.ofMillis(10), 2, Duration.ofHours(1), 1000);
+
+        limiter.tryAcquire("idle", "10.0.0.1");
+        Thread.sleep(30);
+        limiter.evictIdle();
+
+        assertEquals(0, limiter.getUsernameBucketCount());
+        assertEquals(1, limiter.getIpBucketCount());
+    }
+}
@@ -0,0 +1,58 @@
+package com.facilityassist.security;
+
+import com.facilityassist.model.UserRole;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenServiceTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+
+    private final UserPrincipal principal = new UserPrincipal(
+            7L, "1wing_manager", "제1전투비행단 관리자", "hash", UserRole.MANAGER, 3L, "제1전투비행단",
+            List.of(new SimpleGrantedAuthority("ROLE_MANAGER")));
+
+    @Test
+    void verify_RoundTripsPrincipalWithoutPassword() throws Exception {
+        TokenService tokenService = new TokenService(new ObjectMapper(), SECRET, Duration.ofHours(1));
+
+        UserPrincipal verified = tokenService.verify(tokenService.issue(principal)).orElseThrow();
+
+        assertEquals(7L, verified.getId());
+        assertEquals("1wing_manager", verified.getUsername());
+        assertEquals("제1전투비행단 관리자", verified.getName());
+        assertEquals(UserRole.MANAGER, verified.getRole());
+        assertEquals(3L, verified.getUnitId());
+        assertEquals("제1전투비행단", verified.getUnitName());
+        assertNull(verified.getPassword());
+        assertEquals("ROLE_MANAGER", verified.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void verify_RejectsTamperedPayload() throws Exception {
+        TokenService tokenService = new TokenService(new ObjectMapper(), SECRET, Duration.ofHours(1));
+        String[] parts = tokenService.issue(principal).split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1])).replace("MANAGER", "SYS_ADMIN");
+        String forged = parts[0] + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes()) + "." + parts[2];
+
+        assertTrue(tokenService.verify(forged).isEmpty());
+        assertTrue(tokenService.verify("not-a-token").isEmpty());
+    }
+
+    @Test
+    void verify_RejectsOtherKeyAndExpiredToken() throws Exception {
+        TokenService tokenService = new TokenService(new ObjectMapper(), SECRET, Duration.ofHours(1));
+        TokenService otherKey = new TokenService(new ObjectMapper(), "", Duration.ofHours(1));
+        TokenService expired = new TokenService(new ObjectMapper(), SECRET, Duration.ofSeconds(-1));
+
+        assertTrue(tokenService.verify(otherKey.issue(principal)).isEmpty());
+        assertTrue(tokenService.verify(expired.issue(principal)).isEmpty());
+    }
+}
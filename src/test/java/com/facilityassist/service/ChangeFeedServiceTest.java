@@ -0,0 +1,178 @@
+package com.facilityassist.service;
+
+import com.facilityassist.event.NoticeCreatedEvent;
+import com.facilityassist.event.TaskDeadlineEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChangeFeedServiceTest {
+
+    private static final int BUFFER_SIZE = 4;
+    private static final long WRITE_TIMEOUT_MS = 500;
+
+    private final ChangeFeedService changeFeedService =
+        new ChangeFeedService(new ObjectMapper().findAndRegisterModules(), BUFFER_SIZE, 60_000, WRITE_TIMEOUT_MS);
+
+    @AfterEach
+    void tearDown() {
+        changeFeedService.shutdown();
+    }
+
+    @Test
+    void onNoticeCreated_FansOutToEverySubscriber() {
+        List<RecordingEmitter> emitters = List.of(new RecordingEmitter(), new RecordingEmitter(), new RecordingEmitter());
+        emitters.forEach(emitter -> changeFeedService.register(1L, emitter));
+
+        changeFeedService.onNoticeCreated(noticeCreated());
+        changeFeedService.onNoticeCreated(noticeCreated());
+
+        for (RecordingEmitter emitter : emitters) {
+            await(() -> emitter.sent.size() == 2);
+        }
+        assertEquals(3, changeFeedService.getSubscriberCount());
+    }
+
+    @Test
+    void onTaskDeadline_SendsOnlyToListedManagers() {
+        RecordingEmitter listed = new RecordingEmitter();
+        RecordingEmitter other = new RecordingEmitter();
+        changeFeedService.register(10L, listed);
+        changeFeedService.register(20L, other);
+
+        changeFeedService.onTaskDeadline(new TaskDeadlineEvent(1L, TaskDeadlineEvent.Type.DUE_SOON, LocalDateTime.now(), List.of(10L)));
+        changeFeedService.heartbeat();
+
+        await(() -> listed.sent.size() == 2);
+        await(() -> other.sent.size() == 1);
+    }
+
+    @Test
+    void broadcast_DropsSubscriberWhoseQueueIsFullWithoutBlocking() {
+        BlockingEmitter stalled = new BlockingEmitter();
+        RecordingEmitter healthy = new RecordingEmitter();
+        changeFeedService.register(1L, stalled);
+        changeFeedService.register(2L, healthy);
+
+        // One message in the stalled write plus a full queue, then one more
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < BUFFER_SIZE + 2; i++) {
+                changeFeedService.onNoticeCreated(noticeCreated());
+                int published = i + 1;
+                await(() -> healthy.sent.size() == published);
+                if (i == 0) {
+                    assertTrue(stalled.writing.await(5, TimeUnit.SECONDS));
+                }
+            }
+        });
+
+        assertEquals(1, changeFeedService.getDroppedSubscriberCount());
+        assertEquals(1, changeFeedService.getSubscriberCount());
+
+        stalled.release.countDown();
+        await(() -> stalled.completed);
+        assertEquals(1, stalled.sent.size());
+    }
+
+    @Test
+    void evictStalledWriters_DropsSubscriberStuckInAWrite() throws Exception {
+        BlockingEmitter stalled = new BlockingEmitter();
+        RecordingEmitter healthy = new RecordingEmitter();
+        changeFeedService.register(1L, stalled);
+        changeFeedService.register(2L, healthy);
+
+        changeFeedService.heartbeat();
+        assertTrue(stalled.writing.await(5, TimeUnit.SECONDS));
+        changeFeedService.evictStalledWriters();
+        assertEquals(2, changeFeedService.getSubscriberCount(), "evicted before the write timeout");
+
+        Thread.sleep(WRITE_TIMEOUT_MS * 2);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), changeFeedService::evictStalledWriters);
+
+        assertEquals(1, changeFeedService.getDroppedSubscriberCount());
+        assertEquals(1, changeFeedService.getSubscriberCount());
+        changeFeedService.onNoticeCreated(noticeCreated());
+        await(() -> healthy.sent.size() == 2);
+
+        stalled.release.countDown();
+        await(() -> stalled.completed);
+        assertEquals(1, stalled.sent.size());
+    }
+
+    @Test
+    void send_FailureRemovesSubscriber() {
+        RecordingEmitter closed = new RecordingEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        changeFeedService.register(1L, closed);
+
+        changeFeedService.heartbeat();
+
+        await(() -> changeFeedService.getSubscriberCount() == 0);
+        assertEquals(0, changeFeedService.getDroppedSubscriberCount());
+    }
+
+    private static NoticeCreatedEvent noticeCreated() {
+        return new NoticeCreatedEvent(1L, "title", "author", LocalDateTime.now(), 7L);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met in time");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        final List<SseEventBuilder> sent = new CopyOnWriteArrayList<>();
+        volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sent.add(builder);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+
+    /**
+     * Holds the emitter monitor in its first write until released, like a client that stopped reading
+     */
+    private static class BlockingEmitter extends RecordingEmitter {
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) throws IOException {
+            sent.add(builder);
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.facilityassist.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContentTypeSniffingStageTest {
+
+    @Test
+    void sniff_RecognisesMagicBytes() {
+        assertEquals("application/pdf", ContentTypeSniffingStage.sniff("%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals("image/png", ContentTypeSniffingStage.sniff(
+            new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0}));
+        assertEquals("image/jpeg", ContentTypeSniffingStage.sniff(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0}));
+        assertEquals("image/webp", ContentTypeSniffingStage.sniff("RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.US_ASCII)));
+        assertNull(ContentTypeSniffingStage.sniff("plain text".getBytes(StandardCharsets.US_ASCII)));
+        assertNull(ContentTypeSniffingStage.sniff(new byte[0]));
+    }
+
+    @Test
+    void shouldReplace_OnlyGenericOrConflictingTypes() {
+        assertTrue(ContentTypeSniffingStage.shouldReplace("application/octet-stream", "application/pdf"));
+        assertTrue(ContentTypeSniffingStage.shouldReplace("image/png", "application/pdf"));
+        assertFalse(ContentTypeSniffingStage.shouldReplace("application/pdf", "application/pdf"));
+        assertFalse(ContentTypeSniffingStage.shouldReplace("text/plain", "image/png"));
+        assertFalse(ContentTypeSniffingStage.shouldReplace(
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document", "application/zip"));
+    }
+}
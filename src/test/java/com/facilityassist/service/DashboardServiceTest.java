@@ -0,0 +1,112 @@
+package com.facilityassist.service;
+
+import com.facilityassist.dto.DashboardResponse;
+import com.facilityassist.dto.DocumentListResponse;
+import com.facilityassist.dto.NoticeListResponse;
+import com.facilityassist.dto.UserInfoResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DashboardServiceTest {
+
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+    private DashboardService dashboardService;
+
+    @AfterEach
+    void tearDown() {
+        if (dashboardService != null) {
+            dashboardService.shutdown();
+        }
+    }
+
+    @Test
+    void getDashboard_ReturnsAllSections() {
+        dashboardService = dashboard(4, 4, 2000, UserInfoResponse::new);
+
+        DashboardResponse dashboard = dashboardService.getDashboard(5);
+
+        assertNotNull(dashboard.getUser());
+        assertNotNull(dashboard.getNotices());
+        assertNotNull(dashboard.getDocuments());
+        assertTrue(dashboard.getUnavailableSections().isEmpty());
+    }
+
+    @Test
+    void getDashboard_ReportsFailedSectionAndReturnsTheRest() {
+        dashboardService = dashboard(4, 4, 2000, () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        DashboardResponse dashboard = dashboardService.getDashboard(5);
+
+        assertNull(dashboard.getUser());
+        assertNotNull(dashboard.getNotices());
+        assertNotNull(dashboard.getDocuments());
+        assertEquals(List.of("user"), dashboard.getUnavailableSections());
+    }
+
+    @Test
+    void getDashboard_CancelsSectionThatTimesOut() throws Exception {
+        dashboardService = dashboard(4, 4, 100, this::blockUntilInterrupted);
+
+        DashboardResponse dashboard = dashboardService.getDashboard(5);
+
+        assertNull(dashboard.getUser());
+        assertNotNull(dashboard.getNotices());
+        assertNotNull(dashboard.getDocuments());
+        assertEquals(List.of("user"), dashboard.getUnavailableSections());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "timed-out section was not interrupted");
+    }
+
+    @Test
+    void getDashboard_ReportsRejectedSectionWhenThePoolIsFull() {
+        // One thread busy with the user section, one queue slot for notices, no room for documents
+        dashboardService = dashboard(1, 1, 100, this::blockUntilInterrupted);
+
+        DashboardResponse dashboard = dashboardService.getDashboard(5);
+
+        assertNull(dashboard.getUser());
+        assertNull(dashboard.getDocuments());
+        assertTrue(dashboard.getUnavailableSections().containsAll(List.of("user", "documents")));
+    }
+
+    private UserInfoResponse blockUntilInterrupted() {
+        try {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            Thread.currentThread().interrupt();
+        }
+        return new UserInfoResponse();
+    }
+
+    private static DashboardService dashboard(int threads, int queueCapacity, long timeoutMs, Supplier<UserInfoResponse> user) {
+        UserService userService = new UserService(null) {
+            @Override
+            public Optional<UserInfoResponse> getCurrentUserInfo() {
+                return Optional.of(user.get());
+            }
+        };
+        NoticeService noticeService = new NoticeService(null, null, null, null, null, null) {
+            @Override
+            public NoticeListResponse getRecentNotices(int page, int size) {
+                return new NoticeListResponse();
+            }
+        };
+        DocumentService documentService = new DocumentService(null, null, null, null, null, null, null) {
+            @Override
+            public DocumentListResponse getRecentDocuments(int page, int size) {
+                return new DocumentListResponse();
+            }
+        };
+        return new DashboardService(userService, noticeService, documentService, threads, queueCapacity, timeoutMs, false);
+    }
+}
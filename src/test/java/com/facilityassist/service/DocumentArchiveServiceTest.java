@@ -0,0 +1,116 @@
+package com.facilityassist.service;
+
+import com.facilityassist.dto.DocumentResponse;
+import com.facilityassist.repository.DocumentContentRepository;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DocumentArchiveServiceTest {
+
+    private final Map<Long, byte[]> contents = Map.of(
+        1L, "시설 점검 보고서 ".repeat(200).getBytes(StandardCharsets.UTF_8),
+        2L, new byte[]{(byte) 0x89, 'P', 'N', 'G', 1, 2, 3},
+        3L, "second report".getBytes(StandardCharsets.UTF_8),
+        4L, new byte[0]);
+
+    private final DocumentArchiveService archiveService = new DocumentArchiveService(new DocumentContentRepository(null) {
+        @Override
+        public boolean copyContent(Long id, OutputStream out) {
+            byte[] content = contents.get(id);
+            if (content == null) {
+                return false;
+            }
+            try {
+                out.write(content);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return true;
+        }
+    });
+
+    @Test
+    void writeArchive_StoresCompressedFormatsAndDeflatesTheRest() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long bytes = archiveService.writeArchive(List.of(
+            download(1L, "report.txt", "text/plain"),
+            download(2L, "photo.png", "image/png"),
+            download(3L, "report.txt", "text/plain")), out);
+
+        assertEquals(contents.get(1L).length + contents.get(2L).length + contents.get(3L).length, bytes);
+
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry first = zip.getNextEntry();
+            assertEquals("report.txt", first.getName());
+            assertEquals(ZipEntry.DEFLATED, first.getMethod());
+            assertArrayEquals(contents.get(1L), zip.readAllBytes());
+
+            ZipEntry second = zip.getNextEntry();
+            assertEquals("photo.png", second.getName());
+            assertEquals(ZipEntry.STORED, second.getMethod());
+            assertArrayEquals(contents.get(2L), zip.readAllBytes());
+
+            ZipEntry third = zip.getNextEntry();
+            assertEquals("report (2).txt", third.getName());
+            assertArrayEquals(contents.get(3L), zip.readAllBytes());
+
+            assertNull(zip.getNextEntry());
+        }
+    }
+
+    @Test
+    void writeArchive_SkipsDocumentsThatDisappeared() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long bytes = archiveService.writeArchive(List.of(
+            download(9L, "gone.txt", "text/plain"),
+            download(8L, "gone.png", "image/png"),
+            download(3L, "report.txt", "text/plain")), out);
+
+        assertEquals(contents.get(3L).length, bytes);
+
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry only = zip.getNextEntry();
+            assertEquals("report.txt", only.getName());
+            assertArrayEquals(contents.get(3L), zip.readAllBytes());
+            assertNull(zip.getNextEntry());
+        }
+    }
+
+    @Test
+    void writeArchive_KeepsEmptyDocuments() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long bytes = archiveService.writeArchive(List.of(
+            download(4L, "empty.txt", "text/plain"),
+            download(4L, "empty.png", "image/png")), out);
+
+        assertEquals(0, bytes);
+
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals("empty.txt", zip.getNextEntry().getName());
+            assertEquals(0, zip.readAllBytes().length);
+            assertEquals("empty.png", zip.getNextEntry().getName());
+            assertEquals(0, zip.readAllBytes().length);
+            assertNull(zip.getNextEntry());
+        }
+    }
+
+    private static DocumentResponse.DocumentDownload download(Long id, String fileName, String fileType) {
+        return DocumentResponse.DocumentDownload.builder()
+            .id(id)
+            .fileName(fileName)
+            .fileType(fileType)
+            .build();
+    }
+}
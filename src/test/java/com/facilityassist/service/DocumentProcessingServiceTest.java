@@ -0,0 +1,226 @@
+package com.facilityassist.service;
+
+import com.facilityassist.event.DocumentProcessingRequestedEvent;
+import com.facilityassist.model.DocumentProcessingJob;
+import com.facilityassist.model.ProcessingStatus;
+import com.facilityassist.repository.DocumentProcessingJobRepository;
+import com.facilityassist.repository.DocumentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class DocumentProcessingServiceTest {
+
+    private static final long JOB_ID = 1L;
+    private static final long DOCUMENT_ID = 10L;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final DocumentProcessingJobRepository jobRepository = mock(DocumentProcessingJobRepository.class);
+    private final DocumentRepository documentRepository = mock(DocumentRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<DocumentProcessingStage> stages = new ArrayList<>();
+    private int runs;
+    private final DocumentProcessingService processingService = new DocumentProcessingService(
+        jobRepository, documentRepository, stages, mock(ApplicationEventPublisher.class), meterRegistry, 1, 10);
+
+    {
+        ReflectionTestUtils.setField(processingService, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(processingService, "backoffInitial", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(processingService, "backoffMax", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(processingService, "lockTimeout", Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        processingService.shutdown();
+    }
+
+    @Test
+    void backoffDelay_GrowsAndIsCapped() {
+        Duration initial = Duration.ofSeconds(5);
+        Duration max = Duration.ofMinutes(10);
+
+        for (int i = 0; i < 20; i++) {
+            Duration first = DocumentProcessingService.backoffDelay(1, initial, max);
+            assertTrue(first.compareTo(Duration.ofMillis(2500)) >= 0 && first.compareTo(initial) <= 0);
+            Duration third = DocumentProcessingService.backoffDelay(3, initial, max);
+            assertTrue(third.compareTo(Duration.ofSeconds(10)) >= 0 && third.compareTo(Duration.ofSeconds(20)) <= 0);
+            assertTrue(DocumentProcessingService.backoffDelay(40, initial, max).compareTo(max) <= 0);
+        }
+    }
+
+    @Test
+    void process_RetriesFailedStageAndCompletes() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        stages.add(stage(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("transient");
+            }
+        }));
+        claimAttempts(1, 2);
+
+        runOnce();
+        verify(jobRepository).finish(eq(JOB_ID), eq(ProcessingStatus.PENDING),
+            argThat(next -> next.isAfter(LocalDateTime.now().plusSeconds(1))), contains("transient"), isNull());
+        verify(documentRepository).updateProcessingStatus(DOCUMENT_ID, ProcessingStatus.PENDING);
+
+        runOnce();
+        verify(jobRepository).finish(eq(JOB_ID), eq(ProcessingStatus.COMPLETED), any(), isNull(), notNull());
+        verify(documentRepository).updateProcessingStatus(DOCUMENT_ID, ProcessingStatus.COMPLETED);
+        assertEquals(2, calls.get());
+        assertEquals(1, jobCount("retried"));
+        assertEquals(1, jobCount("completed"));
+    }
+
+    @Test
+    void process_FailsJobAndDocumentAfterMaxAttempts() throws Exception {
+        stages.add(stage(() -> {
+            throw new IllegalStateException("corrupt");
+        }));
+        claimAttempts(1, 2, 3);
+
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            runOnce();
+        }
+
+        verify(jobRepository, times(MAX_ATTEMPTS - 1)).finish(eq(JOB_ID), eq(ProcessingStatus.PENDING), any(), anyString(), isNull());
+        verify(jobRepository).finish(eq(JOB_ID), eq(ProcessingStatus.FAILED), any(), contains("corrupt"), isNull());
+        verify(documentRepository).updateProcessingStatus(DOCUMENT_ID, ProcessingStatus.FAILED);
+        assertEquals(MAX_ATTEMPTS - 1, jobCount("retried"));
+        assertEquals(1, jobCount("failed"));
+        assertEquals(0, jobCount("completed"));
+    }
+
+    @Test
+    void process_StageErrorUsesUpAnAttempt() throws Exception {
+        stages.add(stage(() -> {
+            throw new StackOverflowError();
+        }));
+        claimAttempts(1);
+
+        runOnce();
+
+        verify(jobRepository).finish(eq(JOB_ID), eq(ProcessingStatus.PENDING), any(), contains("StackOverflowError"), isNull());
+        verify(documentRepository).updateProcessingStatus(DOCUMENT_ID, ProcessingStatus.PENDING);
+    }
+
+    @Test
+    void run_SkipsJobClaimedElsewhere() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        stages.add(stage(calls::incrementAndGet));
+        when(jobRepository.claim(eq(JOB_ID), any(), eq(MAX_ATTEMPTS), eq(ProcessingStatus.PENDING), eq(ProcessingStatus.PROCESSING)))
+            .thenReturn(0);
+
+        runOnce();
+
+        verify(jobRepository, never()).findById(any());
+        verify(jobRepository, never()).finish(any(), any(), any(), any(), any());
+        verifyNoInteractions(documentRepository);
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void pollDueJobs_ReleasesStaleJobsAndFailsExhaustedOnes() {
+        DocumentProcessingJob held = job(1);
+        DocumentProcessingJob exhausted = DocumentProcessingJob.builder()
+            .id(2L).documentId(20L).status(ProcessingStatus.PROCESSING).attempts(MAX_ATTEMPTS).build();
+        when(jobRepository.findStale(any(), eq(ProcessingStatus.PROCESSING))).thenReturn(List.of(held, exhausted));
+        when(jobRepository.finishStale(any(), any(), any(), anyString(), eq(ProcessingStatus.PROCESSING))).thenReturn(1);
+        when(jobRepository.findDueIds(any(), any(), anyInt(), any())).thenReturn(List.of());
+
+        processingService.pollDueJobs();
+
+        verify(jobRepository).finishStale(eq(JOB_ID), argThat(before -> before.isBefore(LocalDateTime.now().minusMinutes(9))),
+            eq(ProcessingStatus.PENDING), anyString(), eq(ProcessingStatus.PROCESSING));
+        verify(documentRepository).updateProcessingStatus(DOCUMENT_ID, ProcessingStatus.PENDING);
+        verify(jobRepository).finishStale(eq(2L), any(), eq(ProcessingStatus.FAILED), anyString(), eq(ProcessingStatus.PROCESSING));
+        verify(documentRepository).updateProcessingStatus(20L, ProcessingStatus.FAILED);
+        assertEquals(1, jobCount("failed"));
+    }
+
+    @Test
+    void pollDueJobs_LeavesStaleJobFinishedMeanwhileAlone() {
+        when(jobRepository.findStale(any(), eq(ProcessingStatus.PROCESSING))).thenReturn(List.of(job(1)));
+        // The worker finished between the select and the update
+        when(jobRepository.finishStale(any(), any(), any(), anyString(), any())).thenReturn(0);
+        when(jobRepository.findDueIds(any(), any(), anyInt(), any())).thenReturn(List.of());
+
+        processingService.pollDueJobs();
+
+        verifyNoInteractions(documentRepository);
+    }
+
+    /**
+     * Each claim succeeds and the job then reports the given attempt numbers in turn
+     */
+    @SuppressWarnings("unchecked")
+    private void claimAttempts(Integer first, Integer... rest) {
+        when(jobRepository.claim(eq(JOB_ID), any(), eq(MAX_ATTEMPTS), eq(ProcessingStatus.PENDING), eq(ProcessingStatus.PROCESSING)))
+            .thenReturn(1);
+        Optional<DocumentProcessingJob>[] later = new Optional[rest.length];
+        for (int i = 0; i < rest.length; i++) {
+            later[i] = Optional.of(job(rest[i]));
+        }
+        when(jobRepository.findById(JOB_ID)).thenReturn(Optional.of(job(first)), later);
+    }
+
+    /**
+     * Submit the job as the after-commit listener does and wait for the worker to finish it
+     */
+    private void runOnce() throws InterruptedException {
+        processingService.onProcessingRequested(new DocumentProcessingRequestedEvent(JOB_ID, DOCUMENT_ID));
+        verify(jobRepository, timeout(5000).times(++runs)).claim(eq(JOB_ID), any(), anyInt(), any(), any());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (processingService.getActiveWorkerCount() > 0) {
+            assertTrue(System.nanoTime() < deadline, "job did not finish in time");
+            Thread.sleep(10);
+        }
+    }
+
+    private double jobCount(String outcome) {
+        var counter = meterRegistry.find("facility.document.processing.jobs").tag("outcome", outcome).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static DocumentProcessingJob job(int attempts) {
+        return DocumentProcessingJob.builder()
+            .id(JOB_ID)
+            .documentId(DOCUMENT_ID)
+            .status(ProcessingStatus.PROCESSING)
+            .attempts(attempts)
+            .lockedAt(LocalDateTime.now().minusMinutes(30))
+            .build();
+    }
+
+    private static DocumentProcessingStage stage(ThrowingRunnable body) {
+        return new DocumentProcessingStage() {
+            @Override
+            public String getName() {
+                return "test";
+            }
+
+            @Override
+            public void process(Long documentId) throws Exception {
+                body.run();
+            }
+        };
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,63 @@
+package com.facilityassist.service;
+
+import com.facilityassist.repository.ExportRepository;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExportServiceTest {
+
+    private static final int NOTICES = 250;
+
+    private final ExportService exportService = new ExportService(new ExportRepository(null) {
+        @Override
+        public void streamNotices(Consumer<Object[]> rowConsumer) {
+            for (int i = 0; i < NOTICES; i++) {
+                rowConsumer.accept(new Object[]{
+                    (long) i, "공지 " + i, "첫 줄, \"인용\"\n둘째 줄", "admin", "관리자", null,
+                    LocalDateTime.of(2024, 1, 1, 9, 0)});
+            }
+        }
+    });
+
+    @Test
+    void export_CsvQuotesFieldsAndWritesEveryRow() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.export(ExportService.Dataset.NOTICES, ExportService.Format.CSV, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertEquals(NOTICES, rows);
+        assertTrue(csv.startsWith("\uFEFFID,제목,내용,"));
+        assertTrue(csv.contains("\r\n0,공지 0,\"첫 줄, \"\"인용\"\"\n둘째 줄\",admin,관리자,,2024-01-01 09:00:00\r\n"));
+    }
+
+    @Test
+    void csvField_PrefixesFormulas() {
+        assertEquals("\"'=HYPERLINK(\"\"x\"\")\"", exportService.csvField("=HYPERLINK(\"x\")"));
+        assertEquals("'@SUM(A1)", exportService.csvField("@SUM(A1)"));
+        assertEquals("-5", exportService.csvField(-5));
+    }
+
+    @Test
+    void export_XlsxContainsHeaderAndRows() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(ExportService.Dataset.NOTICES, ExportService.Format.XLSX, out);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals("제목", sheet.getRow(0).getCell(1).getStringCellValue());
+            assertEquals(NOTICES, sheet.getLastRowNum());
+            assertEquals(NOTICES - 1, (long) sheet.getRow(NOTICES).getCell(0).getNumericCellValue());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.facilityassist.service;
+
+import com.facilityassist.dto.NoticeReadStatsResponse;
+import com.facilityassist.event.NoticeCreatedEvent;
+import com.facilityassist.model.NoticeReadState;
+import com.facilityassist.model.UserRole;
+import com.facilityassist.repository.NoticeReadStateRepository;
+import com.facilityassist.repository.NoticeRepository;
+import com.facilityassist.repository.UserRepository;
+import com.facilityassist.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class NoticeReadServiceTest {
+
+    private final NoticeReadStateRepository noticeReadStateRepository = mock(NoticeReadStateRepository.class);
+    private final NoticeRepository noticeRepository = mock(NoticeRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final NoticeReadService noticeReadService =
+        new NoticeReadService(noticeReadStateRepository, noticeRepository, userRepository);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(noticeRepository.findAllIds()).thenReturn(List.of(1L, 2L, 3L));
+        // Manager 20 has read notice 2 before the restart
+        when(noticeReadStateRepository.findAll()).thenReturn(List.of(NoticeReadState.builder()
+            .noticeId(2L)
+            .readerBitmap(serialize(RoaringBitmap.bitmapOf(20)))
+            .readCount(1)
+            .build()));
+        when(userRepository.countByRole(UserRole.MANAGER)).thenReturn(4L);
+        noticeReadService.load();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void load_RestoresPersistedReaders() {
+        assertEquals(3, noticeReadService.getUnreadCount(10L));
+        assertEquals(2, noticeReadService.getUnreadCount(20L));
+        assertEquals(1, noticeReadService.getReadStats(2L).orElseThrow().getReadCount());
+    }
+
+    @Test
+    void recordRead_CountsEachManagerOnce() {
+        authenticate(10L, UserRole.MANAGER);
+
+        noticeReadService.recordRead(1L);
+        noticeReadService.recordRead(1L);
+
+        assertEquals(2, noticeReadService.getUnreadCount(10L));
+        assertEquals(2, noticeReadService.getUnreadCountForCurrentUser().orElseThrow());
+        NoticeReadStatsResponse stats = noticeReadService.getReadStats(1L).orElseThrow();
+        assertEquals(1, stats.getReadCount());
+        assertEquals(4, stats.getManagerCount());
+        assertEquals(0.25, stats.getReadRatio(), 1e-9);
+    }
+
+    @Test
+    void recordRead_IgnoresNonManagers() {
+        authenticate(30L, UserRole.ADMIN);
+
+        noticeReadService.recordRead(1L);
+
+        assertEquals(0, noticeReadService.getReadStats(1L).orElseThrow().getReadCount());
+        noticeReadService.flush();
+        verify(noticeReadStateRepository, never()).upsertAll(anyList());
+    }
+
+    @Test
+    void onNoticeCreated_RegistersNoticeAsUnread() {
+        assertTrue(noticeReadService.getReadStats(4L).isEmpty());
+
+        noticeReadService.onNoticeCreated(new NoticeCreatedEvent(4L, "title", "author", LocalDateTime.now(), null));
+
+        assertEquals(4, noticeReadService.getUnreadCount(10L));
+        assertEquals(0, noticeReadService.getReadStats(4L).orElseThrow().getReadCount());
+    }
+
+    @Test
+    void flush_WritesOnlyChangedNotices() {
+        authenticate(10L, UserRole.MANAGER);
+        noticeReadService.recordRead(3L);
+
+        noticeReadService.flush();
+        noticeReadService.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NoticeReadState>> written = ArgumentCaptor.forClass(List.class);
+        verify(noticeReadStateRepository, times(1)).upsertAll(written.capture());
+        assertEquals(1, written.getValue().size());
+        assertEquals(3L, written.getValue().get(0).getNoticeId());
+        assertEquals(1, written.getValue().get(0).getReadCount());
+    }
+
+    @Test
+    void refreshManagerCount_UpdatesReadRatioWithoutFlush() {
+        when(userRepository.countByRole(UserRole.MANAGER)).thenReturn(5L);
+
+        noticeReadService.refreshManagerCount();
+
+        NoticeReadStatsResponse stats = noticeReadService.getReadStats(2L).orElseThrow();
+        assertEquals(5, stats.getManagerCount());
+        assertEquals(0.2, stats.getReadRatio(), 1e-9);
+    }
+
+    private static void authenticate(Long userId, UserRole role) {
+        UserPrincipal principal = new UserPrincipal(userId, "user" + userId, "User " + userId, "", role, null, null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private static byte[] serialize(RoaringBitmap bitmap) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            bitmap.serialize(out);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,78 @@
+package com.facilityassist.service;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PreviewServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void renderPreview_ScalesImageToFit() throws Exception {
+        Path source = tempDir.resolve("wide.png");
+        ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB), "png", source.toFile());
+
+        BufferedImage preview = ImageIO.read(new ByteArrayInputStream(
+            PreviewService.renderPreview(source, "image/png", 320)));
+
+        assertEquals(320, preview.getWidth());
+        assertEquals(160, preview.getHeight());
+    }
+
+    @Test
+    void renderPreview_RendersFirstPdfPage() throws Exception {
+        Path source = tempDir.resolve("a4.pdf");
+        try (PDDocument pdf = new PDDocument()) {
+            pdf.addPage(new PDPage(PDRectangle.A4));
+            pdf.addPage(new PDPage(PDRectangle.A4));
+            pdf.save(source.toFile());
+        }
+
+        BufferedImage preview = ImageIO.read(new ByteArrayInputStream(
+            PreviewService.renderPreview(source, "application/pdf", 320)));
+
+        assertEquals(320, preview.getHeight());
+        assertTrue(preview.getWidth() < preview.getHeight());
+    }
+
+    @Test
+    void renderPreview_EmptyForUndecodableContent() throws Exception {
+        Path source = Files.write(tempDir.resolve("broken.pdf"), "not a pdf".getBytes());
+
+        assertEquals(0, PreviewService.renderPreview(source, "application/pdf", 320).length);
+        assertEquals(0, PreviewService.renderPreview(source, "image/png", 320).length);
+    }
+
+    @Test
+    void previewCache_EvictsLeastRecentlyUsedAndReloads() throws Exception {
+        Path directory = tempDir.resolve("cache");
+        PreviewCache cache = new PreviewCache(directory, DataSize.ofKilobytes(24));
+
+        cache.put("1-a", new byte[8 * 1024]);
+        cache.put("2-b", new byte[8 * 1024]);
+        cache.get("1-a");
+        cache.put("3-c", new byte[10 * 1024]);
+
+        assertTrue(cache.get("1-a").isPresent());
+        assertTrue(cache.get("2-b").isEmpty());
+        assertTrue(cache.get("3-c").isPresent());
+        assertFalse(Files.exists(directory.resolve("2-b.preview")));
+
+        PreviewCache reloaded = new PreviewCache(directory, DataSize.ofKilobytes(24));
+        assertEquals(2, reloaded.getEntryCount());
+        assertEquals(18 * 1024, reloaded.getSizeBytes());
+    }
+}
@@ -0,0 +1,120 @@
+package com.facilityassist.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestCoalescerTest {
+
+    private static final int CALLERS = 16;
+
+    @Test
+    void execute_ConcurrentCallersShareOneComputation() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RequestCoalescer coalescer = new RequestCoalescer(registry);
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> coalescer.execute("test", "0:5", () -> {
+                computations.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "result";
+            })));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < CALLERS; i++) {
+                results.add(executor.submit(() -> coalescer.execute("test", "0:5", () -> {
+                    computations.incrementAndGet();
+                    return "other";
+                })));
+            }
+            // Let the joiners reach the in-flight computation before it completes
+            while (registry.counter("facility.coalesced.calls", "name", "test").count() < CALLERS - 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("result", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, computations.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_RunsAgainAfterCompletionAndSharesNothingAcrossKeys() {
+        RequestCoalescer coalescer = new RequestCoalescer(new SimpleMeterRegistry());
+        AtomicInteger computations = new AtomicInteger();
+
+        coalescer.execute("test", "0:5", computations::incrementAndGet);
+        coalescer.execute("test", "0:5", computations::incrementAndGet);
+        coalescer.execute("test", "1:5", computations::incrementAndGet);
+
+        assertEquals(3, computations.get());
+    }
+
+    @Test
+    void execute_PropagatesFailure() {
+        RequestCoalescer coalescer = new RequestCoalescer(new SimpleMeterRegistry());
+
+        assertThrows(IllegalStateException.class, () -> coalescer.execute("test", "0:5", () -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals("ok", coalescer.execute("test", "0:5", () -> "ok"));
+    }
+
+    @Test
+    void execute_PropagatesErrorToJoinedCallers() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RequestCoalescer coalescer = new RequestCoalescer(registry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<String> leader = executor.submit(() -> coalescer.execute("test", "0:5", () -> {
+                started.countDown();
+                await(release);
+                throw new LinkageError("boom");
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<String> joiner = executor.submit(() -> coalescer.execute("test", "0:5", () -> "other"));
+            while (registry.counter("facility.coalesced.calls", "name", "test").count() < 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(LinkageError.class, leaderFailure.getCause());
+            ExecutionException joinerFailure = assertThrows(ExecutionException.class, () -> joiner.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(LinkageError.class, joinerFailure.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.facilityassist.service;
+
+import com.facilityassist.dto.StatsResponse;
+import com.facilityassist.event.DocumentUploadedEvent;
+import com.facilityassist.event.DocumentVersionSupersededEvent;
+import com.facilityassist.event.NoticeCreatedEvent;
+import com.facilityassist.repository.DocumentRepository;
+import com.facilityassist.repository.GroupCount;
+import com.facilityassist.repository.GroupTotal;
+import com.facilityassist.repository.NoticeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class StatisticsServiceTest {
+
+    private static final long UNIT = 7L;
+    private static final long UPLOADER = 3L;
+
+    private final NoticeRepository noticeRepository = mock(NoticeRepository.class);
+    private final DocumentRepository documentRepository = mock(DocumentRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final StatisticsService statisticsService =
+        new StatisticsService(noticeRepository, documentRepository, transactionManager);
+
+    @BeforeEach
+    void setUp() {
+        when(noticeRepository.count()).thenReturn(5L);
+        when(noticeRepository.countByAuthorUnit()).thenReturn(List.of(count(UNIT, 5)));
+        when(documentRepository.sumActiveByUploader()).thenReturn(List.of(total(UPLOADER, 2, 300)));
+        when(documentRepository.sumActiveByUploaderUnit()).thenReturn(List.of(total(UNIT, 2, 300)));
+        statisticsService.reconcile();
+    }
+
+    @Test
+    void reconcile_BuildsCountersFromGroupedQueries() {
+        StatsResponse stats = statisticsService.getStats();
+
+        assertEquals(5, stats.getNoticeCount());
+        assertEquals(2, stats.getActiveDocumentCount());
+        assertEquals(300, stats.getStoredBytes());
+        StatsResponse.UnitStats unit = stats.getUnits().get(0);
+        assertEquals(UNIT, unit.getUnitId());
+        assertEquals(5, unit.getNotices());
+        assertEquals(2, unit.getDocuments());
+        assertEquals(300, unit.getStoredBytes());
+        StatsResponse.UploaderStats uploader = stats.getUploaders().get(0);
+        assertEquals(UPLOADER, uploader.getUploaderId());
+        assertEquals(2, uploader.getDocuments());
+    }
+
+    @Test
+    void events_MoveTheCounters() {
+        statisticsService.onNoticeCreated(noticeCreated());
+        statisticsService.onDocumentUploaded(documentUploaded(100L));
+
+        StatsResponse stats = statisticsService.getStats();
+        assertEquals(6, stats.getNoticeCount());
+        assertEquals(3, stats.getActiveDocumentCount());
+        assertEquals(400, stats.getStoredBytes());
+        assertEquals(6, stats.getUnits().get(0).getNotices());
+        assertEquals(3, stats.getUploaders().get(0).getDocuments());
+    }
+
+    @Test
+    void onDocumentVersionSuperseded_StopsCountingTheOldVersion() {
+        statisticsService.onDocumentUploaded(documentUploaded(120L));
+        statisticsService.onDocumentVersionSuperseded(new DocumentVersionSupersededEvent(10L, UPLOADER, UNIT, 100L));
+
+        StatsResponse stats = statisticsService.getStats();
+        assertEquals(2, stats.getActiveDocumentCount());
+        assertEquals(320, stats.getStoredBytes());
+        assertEquals(2, stats.getUnits().get(0).getDocuments());
+        assertEquals(320, stats.getUnits().get(0).getStoredBytes());
+        assertEquals(2, stats.getUploaders().get(0).getDocuments());
+        assertEquals(320, stats.getUploaders().get(0).getStoredBytes());
+    }
+
+    @Test
+    void reconcile_ReplacesDriftedCounters() {
+        statisticsService.onNoticeCreated(noticeCreated());
+        assertEquals(6, statisticsService.getNoticeCount());
+
+        // The notice was rolled back by hand; the database still has five
+        statisticsService.reconcile();
+
+        assertEquals(5, statisticsService.getNoticeCount());
+    }
+
+    @Test
+    void reconcile_KeepsEventsCommittedDuringTheRebuild() {
+        // The notice commits after the rebuild counted notices but before it replaced the snapshot
+        when(noticeRepository.count()).thenReturn(5L);
+        when(documentRepository.sumActiveByUploaderUnit()).thenAnswer(invocation -> {
+            statisticsService.onNoticeCreated(noticeCreated());
+            return List.of(total(UNIT, 2, 300));
+        });
+
+        statisticsService.reconcile();
+
+        assertEquals(6, statisticsService.getNoticeCount());
+        assertEquals(6, statisticsService.getStats().getUnits().get(0).getNotices());
+    }
+
+    @Test
+    void reconcile_SkipsEventsTheRebuildAlreadySaw() {
+        // The notice committed before the rebuild counted notices, but its listener ran later
+        when(noticeRepository.count()).thenReturn(6L);
+        when(noticeRepository.countByAuthorUnit()).thenReturn(List.of(count(UNIT, 6)));
+        when(noticeRepository.findIdsIn(List.of(100L))).thenReturn(List.of(100L));
+        when(documentRepository.sumActiveByUploaderUnit()).thenAnswer(invocation -> {
+            statisticsService.onNoticeCreated(noticeCreated());
+            return List.of(total(UNIT, 2, 300));
+        });
+
+        statisticsService.reconcile();
+
+        assertEquals(6, statisticsService.getNoticeCount());
+        assertEquals(6, statisticsService.getStats().getUnits().get(0).getNotices());
+    }
+
+    @Test
+    void reconcile_SkipsNewVersionTheRebuildAlreadySaw() {
+        // Version 200 replaced version 10 before the rebuild read the documents
+        when(documentRepository.sumActiveByUploader()).thenAnswer(invocation -> {
+            statisticsService.onDocumentVersionSuperseded(new DocumentVersionSupersededEvent(10L, UPLOADER, UNIT, 100L));
+            statisticsService.onDocumentUploaded(documentUploaded(120L));
+            return List.of(total(UPLOADER, 2, 320));
+        });
+        when(documentRepository.sumActiveByUploaderUnit()).thenReturn(List.of(total(UNIT, 2, 320)));
+        when(documentRepository.findActiveIdsIn(List.of(200L))).thenReturn(List.of(200L));
+        when(documentRepository.findSupersededIdsIn(List.of(10L))).thenReturn(List.of(10L));
+
+        statisticsService.reconcile();
+
+        assertEquals(2, statisticsService.getActiveDocumentCount());
+        assertEquals(320, statisticsService.getStoredBytes());
+    }
+
+    @Test
+    void reconcile_ReadsInOneRepeatableReadTransaction() {
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+
+        assertTrue(definition.getValue().isReadOnly());
+        assertEquals(TransactionDefinition.ISOLATION_REPEATABLE_READ, definition.getValue().getIsolationLevel());
+        verify(transactionManager).commit(any());
+    }
+
+    private static NoticeCreatedEvent noticeCreated() {
+        return new NoticeCreatedEvent(100L, "title", "author", LocalDateTime.now(), UNIT);
+    }
+
+    private static DocumentUploadedEvent documentUploaded(long fileSize) {
+        return new DocumentUploadedEvent(200L, "title", "file.txt", "uploader", LocalDateTime.now(), UPLOADER, UNIT, fileSize);
+    }
+
+    private static GroupCount count(Long groupId, long rows) {
+        return new GroupCount() {
+            @Override
+            public Long getGroupId() {
+                return groupId;
+            }
+
+            @Override
+            public Long getRowCount() {
+                return rows;
+            }
+        };
+    }
+
+    private static GroupTotal total(Long groupId, long rows, long bytes) {
+        return new GroupTotal() {
+            @Override
+            public Long getGroupId() {
+                return groupId;
+            }
+
+            @Override
+            public Long getRowCount() {
+                return rows;
+            }
+
+            @Override
+            public Long getTotalBytes() {
+                return bytes;
+            }
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.facilityassist.support;
+
+import com.facilityassist.monitoring.QueryStats;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MockMvc matchers on the SQL statements a request executed.
+ *
+ * The MockMvc instance must include QueryStatsFilter, e.g.
+ * {@code MockMvcBuilders.webAppContextSetup(context).addFilters(queryStatsFilter).build()}, and
+ * the test must not hold a transaction open around the request, or the persistence context
+ * will hide lazy loads.
+ */
+public final class QueryCountMatchers {
+
+    private QueryCountMatchers() {
+    }
+
+    public static ResultMatcher statementCount(int expected) {
+        return result -> assertEquals(expected, queryStats(result).getStatementCount(),
+            () -> "SQL statements for " + describe(result) + ": " + queryStats(result));
+    }
+
+    public static ResultMatcher statementCountAtMost(int max) {
+        return result -> assertTrue(queryStats(result).getStatementCount() <= max,
+            () -> "Expected at most " + max + " SQL statements for " + describe(result) + ": " + queryStats(result));
+    }
+
+    public static QueryStats queryStats(MvcResult result) {
+        QueryStats stats = (QueryStats) result.getRequest().getAttribute(QueryStats.REQUEST_ATTRIBUTE);
+        assertNotNull(stats, "No query stats recorded; is QueryStatsFilter added to MockMvc?");
+        return stats;
+    }
+
+    private static String describe(MvcResult result) {
+        return result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+    }
+}